@@ -0,0 +1,73 @@
+package roomescape.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+final class BenchmarkDatabase {
+
+    static final LocalDate FIRST_DATE = LocalDate.parse("2024-06-01");
+    static final int THEME_COUNT = 20;
+    static final int TIME_COUNT = 12;
+    static final int MEMBER_COUNT = 200;
+    static final int DAY_COUNT = 60;
+    static final long FIRST_ID = 10_000;
+
+    private BenchmarkDatabase() {
+    }
+
+    static DataSource create(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1;QUERY_CACHE_SIZE=64");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        seed(new JdbcTemplate(dataSource));
+        return dataSource;
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        List<Object[]> members = new ArrayList<>();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            long id = FIRST_ID + i;
+            members.add(new Object[]{id, "member" + id + "@roomescape.com", "password", "회원" + id, "MEMBER"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO member VALUES (?, ?, ?, ?, ?)", members);
+
+        List<Object[]> themes = new ArrayList<>();
+        for (int i = 0; i < THEME_COUNT; i++) {
+            long id = FIRST_ID + i;
+            themes.add(new Object[]{id, "테마" + id, "테마" + id + "입니다", "https://example.com/" + id + ".jpg"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO theme VALUES (?, ?, ?, ?)", themes);
+
+        List<Object[]> times = new ArrayList<>();
+        for (int i = 0; i < TIME_COUNT; i++) {
+            times.add(new Object[]{FIRST_ID + i, String.format("%02d:00", 10 + i)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO reservation_time VALUES (?, ?)", times);
+
+        List<Object[]> reservations = new ArrayList<>();
+        long reservationId = FIRST_ID;
+        for (int day = 0; day < DAY_COUNT; day++) {
+            for (int theme = 0; theme < THEME_COUNT; theme++) {
+                for (int time = 0; time < TIME_COUNT; time++) {
+                    if ((day + theme + time) % 3 == 0) {
+                        continue;
+                    }
+                    long memberId = FIRST_ID + (reservationId % MEMBER_COUNT);
+                    reservations.add(new Object[]{reservationId++, memberId, FIRST_ID + theme,
+                            FIRST_DATE.plusDays(day), FIRST_ID + time});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO reservation VALUES (?, ?, ?, ?, ?)", reservations);
+        jdbcTemplate.update("""
+                INSERT INTO theme_daily_stats (theme_id, date, booked_count)
+                SELECT theme_id, date, COUNT(*) FROM reservation GROUP BY theme_id, date
+                """);
+    }
+}
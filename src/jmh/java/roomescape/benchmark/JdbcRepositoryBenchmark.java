@@ -0,0 +1,92 @@
+package roomescape.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import roomescape.domain.reservation.ReservationSlot;
+import roomescape.domain.reservation.ReservationSummary;
+import roomescape.domain.reservation.ReservationTime;
+import roomescape.domain.reservation.Theme;
+import roomescape.repository.JdbcReservationRepository;
+import roomescape.repository.JdbcReservationTimeRepository;
+import roomescape.repository.JdbcThemeRepository;
+import roomescape.repository.rowmapper.ReservationSummaryRowMapper;
+import roomescape.repository.rowmapper.ReservationTimeRowMapper;
+import roomescape.repository.rowmapper.ThemeRowMapper;
+import roomescape.service.dto.reservation.ReservationSearchParams;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JdbcRepositoryBenchmark {
+
+    private static final long THEME_ID = BenchmarkDatabase.FIRST_ID;
+    private static final long MEMBER_ID = BenchmarkDatabase.FIRST_ID + 7;
+    private static final LocalDate DATE = BenchmarkDatabase.FIRST_DATE.plusDays(10);
+
+    private JdbcReservationRepository reservationRepository;
+    private JdbcReservationTimeRepository reservationTimeRepository;
+    private JdbcThemeRepository themeRepository;
+    private ReservationSearchParams themeWeekSearch;
+    private ReservationSearchParams memberSearch;
+    private List<ReservationSlot> requestedSlots;
+
+    @Setup
+    public void setUp() {
+        DataSource dataSource = BenchmarkDatabase.create("repository");
+        reservationRepository = new JdbcReservationRepository(dataSource, new ReservationSummaryRowMapper());
+        reservationTimeRepository = new JdbcReservationTimeRepository(dataSource, new ReservationTimeRowMapper());
+        themeRepository = new JdbcThemeRepository(dataSource, new ThemeRowMapper());
+        themeWeekSearch = new ReservationSearchParams(null, THEME_ID, DATE, DATE.plusDays(6));
+        memberSearch = new ReservationSearchParams(MEMBER_ID, null, null, null);
+        requestedSlots = List.of(
+                new ReservationSlot(THEME_ID, DATE, BenchmarkDatabase.FIRST_ID),
+                new ReservationSlot(THEME_ID, DATE, BenchmarkDatabase.FIRST_ID + 1),
+                new ReservationSlot(THEME_ID + 1, DATE, BenchmarkDatabase.FIRST_ID + 2));
+    }
+
+    @Benchmark
+    public List<ReservationSummary> findReservationsByThemeAndWeek() {
+        return reservationRepository.findReservationsWithParams(themeWeekSearch);
+    }
+
+    @Benchmark
+    public List<ReservationSummary> findReservationsByMember() {
+        return reservationRepository.findReservationsWithParams(memberSearch);
+    }
+
+    @Benchmark
+    public long countReservationsByThemeAndWeek() {
+        return reservationRepository.countReservationsWithParams(themeWeekSearch);
+    }
+
+    @Benchmark
+    public Set<ReservationSlot> findBookedSlots() {
+        return reservationRepository.findBookedSlots(requestedSlots);
+    }
+
+    @Benchmark
+    public List<ReservationTime> findReservedTimeByThemeAndDate() {
+        return reservationTimeRepository.findReservedTimeByThemeAndDate(DATE, THEME_ID);
+    }
+
+    @Benchmark
+    public List<ReservationTime> findAllReservationTimes() {
+        return reservationTimeRepository.findAllReservationTimes();
+    }
+
+    @Benchmark
+    public List<Theme> findTopThemesForMonth() {
+        return themeRepository.findTopThemesDescendingByReservationCount(
+                BenchmarkDatabase.FIRST_DATE, BenchmarkDatabase.FIRST_DATE.plusDays(30), 10);
+    }
+}
@@ -0,0 +1,47 @@
+package roomescape.benchmark;
+
+import io.jsonwebtoken.Claims;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import roomescape.controller.helper.LoginMember;
+import roomescape.domain.member.Member;
+import roomescape.global.JwtManager;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtManagerBenchmark {
+
+    private static final String SECRET_KEY = "011070243be2a70035923d1cf8b65cf39a32a4eb8ae053f31b0f157d0a45bfa8";
+
+    private final Member member = new Member(1001L, "t1@t1.com", "t1", "재즈", "MEMBER");
+    private JwtManager jwtManager;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtManager = new JwtManager(SECRET_KEY, 1_800_000, 10_000);
+        token = jwtManager.generateToken(member);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtManager.generateToken(member);
+    }
+
+    @Benchmark
+    public Claims verifyToken() {
+        return jwtManager.verifyToken(token);
+    }
+
+    @Benchmark
+    public LoginMember resolveCachedLoginMember() {
+        return jwtManager.resolveLoginMember(token);
+    }
+}
@@ -0,0 +1,52 @@
+package roomescape.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import roomescape.domain.reservation.ReservationSummary;
+import roomescape.domain.reservation.ReservationTime;
+import roomescape.domain.reservation.Theme;
+import roomescape.service.dto.reservation.ReservationResponse;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReservationResponseSerializationBenchmark {
+
+    @Param({"1", "100"})
+    private int reservationCount;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private List<ReservationResponse> responses;
+
+    @Setup
+    public void setUp() {
+        responses = new ArrayList<>(reservationCount);
+        for (int i = 0; i < reservationCount; i++) {
+            long id = 1000L + i;
+            ReservationSummary reservation = new ReservationSummary(id, 1001L + i % 7, "회원" + i % 7,
+                    new Theme(1001L + i % 3, "테마" + i % 3, "설명" + i % 3, "thumbnail-" + i % 3 + ".jpg"),
+                    LocalDate.parse("2024-06-01").plusDays(i % 30),
+                    new ReservationTime(1001L + i % 3, LocalTime.of(12 + i % 3 * 4, 0)));
+            responses.add(new ReservationResponse(reservation));
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+}
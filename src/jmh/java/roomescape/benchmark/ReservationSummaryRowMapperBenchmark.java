@@ -0,0 +1,63 @@
+package roomescape.benchmark;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import roomescape.repository.rowmapper.ReservationSummaryRowMapper;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReservationSummaryRowMapperBenchmark {
+
+    private static final String QUERY = """
+            SELECT
+            r.id AS reservation_id, r.date AS reservation_date,
+            m.id AS member_id, m.name AS member_name, th.id AS theme_id, th.name AS theme_name,
+            th.description AS theme_description, th.thumbnail AS theme_thumbnail,
+            t.id AS time_id, t.start_at AS time_value
+            FROM reservation AS r
+            INNER JOIN member AS m ON m.id = r.member_id
+            INNER JOIN reservation_time AS t ON r.time_id = t.id
+            INNER JOIN theme AS th ON r.theme_id = th.id
+            ORDER BY r.date, r.id
+            LIMIT 100
+            """;
+
+    private final ReservationSummaryRowMapper rowMapper = new ReservationSummaryRowMapper();
+    private Connection connection;
+    private ResultSet resultSet;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = BenchmarkDatabase.create("row-mapper-" + Thread.currentThread().getId()).getConnection();
+        Statement statement = connection.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+        resultSet = statement.executeQuery(QUERY);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        resultSet.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public void mapPage(Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        int rowNum = 0;
+        while (resultSet.next()) {
+            blackhole.consume(rowMapper.mapRow(resultSet, rowNum++));
+        }
+    }
+}
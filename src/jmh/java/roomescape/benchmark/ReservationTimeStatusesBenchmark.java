@@ -0,0 +1,46 @@
+package roomescape.benchmark;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import roomescape.domain.reservation.ReservationTime;
+import roomescape.domain.reservation.ReservationTimeStatuses;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReservationTimeStatusesBenchmark {
+
+    @Param({"12", "48"})
+    private int timeCount;
+
+    private List<ReservationTime> allTimes;
+    private List<ReservationTime> bookedTimes;
+
+    @Setup
+    public void setUp() {
+        allTimes = new ArrayList<>(timeCount);
+        bookedTimes = new ArrayList<>();
+        for (int i = 0; i < timeCount; i++) {
+            ReservationTime time = new ReservationTime((long) i + 1, LocalTime.MIDNIGHT.plusMinutes(30L * i));
+            allTimes.add(time);
+            if (i % 2 == 0) {
+                bookedTimes.add(new ReservationTime(time.getId(), time.getStartAt()));
+            }
+        }
+    }
+
+    @Benchmark
+    public ReservationTimeStatuses construct() {
+        return new ReservationTimeStatuses(allTimes, bookedTimes);
+    }
+}
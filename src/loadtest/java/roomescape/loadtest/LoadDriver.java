@@ -0,0 +1,254 @@
+package roomescape.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import roomescape.RoomescapeApplication;
+import roomescape.domain.member.Member;
+import roomescape.domain.reservation.ReservationTime;
+import roomescape.domain.reservation.Theme;
+import roomescape.global.PasswordHasher;
+import roomescape.repository.JdbcMemberRepository;
+import roomescape.repository.JdbcReservationTimeRepository;
+import roomescape.repository.JdbcThemeRepository;
+
+public class LoadDriver {
+
+    private static final String PASSWORD = "load-test";
+    private static final String ADMIN_EMAIL = "tt@tt.com";
+    private static final String ADMIN_PASSWORD = "tt";
+    private static final String UNLIMITED = "1000000000";
+
+    private final LoadOptions options;
+    private final HttpClient client;
+    private final String baseUrl;
+    private final List<Theme> themes;
+    private final List<ReservationTime> times;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private volatile boolean running = true;
+    private String adminCookie;
+
+    private LoadDriver(LoadOptions options, int port, List<Theme> themes, List<ReservationTime> times) {
+        this.options = options;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.baseUrl = "http://localhost:" + port;
+        this.themes = themes;
+        this.times = times;
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadOptions options = LoadOptions.parse(args);
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(RoomescapeApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:loadtest",
+                        "--rate-limit.login.capacity=" + UNLIMITED,
+                        "--rate-limit.login.per-minute=" + UNLIMITED,
+                        "--rate-limit.reservation.capacity=" + UNLIMITED,
+                        "--rate-limit.reservation.per-minute=" + UNLIMITED,
+                        "--rate-limit.available-time.capacity=" + UNLIMITED,
+                        "--rate-limit.available-time.per-minute=" + UNLIMITED)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            seedMembers(context, options.getUsers());
+            LoadDriver driver = new LoadDriver(options, port,
+                    context.getBean(JdbcThemeRepository.class).findAllThemes(),
+                    context.getBean(JdbcReservationTimeRepository.class).findAllReservationTimes());
+            Map<String, Object> report = driver.run();
+            Files.createDirectories(options.getOutput().toAbsolutePath().getParent());
+            context.getBean(ObjectMapper.class)
+                    .writerWithDefaultPrettyPrinter()
+                    .writeValue(options.getOutput().toFile(), report);
+            System.out.println("Load test report written to " + options.getOutput().toAbsolutePath());
+        }
+    }
+
+    private static void seedMembers(ConfigurableApplicationContext context, int users) {
+        String password = context.getBean(PasswordHasher.class).hash(PASSWORD);
+        JdbcMemberRepository memberRepository = context.getBean(JdbcMemberRepository.class);
+        for (int i = 0; i < users; i++) {
+            memberRepository.insertMember(new Member(null, emailOf(i), password, "부하" + i));
+        }
+    }
+
+    private Map<String, Object> run() throws Exception {
+        adminCookie = loginUntilSuccess(ADMIN_EMAIL, ADMIN_PASSWORD);
+        boolean virtualThreads = true;
+        ExecutorService users;
+        try {
+            users = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            users = Executors.newFixedThreadPool(options.getUsers());
+            virtualThreads = false;
+        }
+
+        for (int i = 0; i < options.getUsers(); i++) {
+            int user = i;
+            users.submit(() -> runUser(user));
+        }
+        TimeUnit.MILLISECONDS.sleep(options.getWarmup().toMillis());
+        stats.values().forEach(OperationStats::reset);
+        long start = System.nanoTime();
+        TimeUnit.MILLISECONDS.sleep(options.getDuration().toMillis());
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        running = false;
+        users.shutdown();
+        users.awaitTermination(30, TimeUnit.SECONDS);
+
+        Map<String, Object> operations = new LinkedHashMap<>();
+        stats.forEach((operation, operationStats) -> operations.put(operation.key(), operationStats.toReport(seconds)));
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("javaVersion", Runtime.version().toString());
+        report.put("virtualThreads", virtualThreads);
+        report.put("users", options.getUsers());
+        report.put("warmupSeconds", options.getWarmup().toSeconds());
+        report.put("durationSeconds", seconds);
+        report.put("hotSlots", options.getHotSlots());
+        report.put("mix", options.getMix());
+        report.put("operations", operations);
+        return report;
+    }
+
+    private void runUser(int user) {
+        String cookie;
+        try {
+            cookie = loginUntilSuccess(emailOf(user), PASSWORD);
+        } catch (IOException | InterruptedException e) {
+            return;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (running) {
+            Operation operation = options.pick(random.nextInt());
+            long start = System.nanoTime();
+            String outcome;
+            try {
+                outcome = switch (operation) {
+                    case LOGIN -> login(user);
+                    case BROWSE -> browse(random);
+                    case RESERVE -> reserve(cookie, random);
+                    case SEARCH -> search();
+                };
+            } catch (IOException e) {
+                outcome = "io-error";
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            stats.get(operation).record(System.nanoTime() - start, outcome);
+        }
+    }
+
+    private String login(int user) throws IOException, InterruptedException {
+        return String.valueOf(sendLogin(emailOf(user), PASSWORD).statusCode());
+    }
+
+    private String browse(ThreadLocalRandom random) throws IOException, InterruptedException {
+        HttpResponse<Void> themesResponse = send(get("/themes", null));
+        if (themesResponse.statusCode() != 200) {
+            return String.valueOf(themesResponse.statusCode());
+        }
+        Theme theme = themes.get(random.nextInt(themes.size()));
+        LocalDate date = LocalDate.now().plusDays(1 + random.nextInt(30));
+        HttpResponse<Void> timesResponse = send(get(
+                "/times/available?date=" + date + "&themeId=" + theme.getId(), null));
+        return String.valueOf(timesResponse.statusCode());
+    }
+
+    private String reserve(String cookie, ThreadLocalRandom random) throws IOException, InterruptedException {
+        int slot = random.nextInt(options.getHotSlots());
+        Theme theme = themes.get(slot % themes.size());
+        ReservationTime time = times.get(slot / themes.size() % times.size());
+        LocalDate date = LocalDate.now().plusDays(1 + slot / (themes.size() * times.size()));
+        String body = "{\"themeId\":" + theme.getId() + ",\"date\":\"" + date + "\",\"timeId\":" + time.getId() + "}";
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/reservations"))
+                        .header("Content-Type", "application/json")
+                        .header("Cookie", cookie)
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() == 201) {
+            release(response.body());
+            return "created";
+        }
+        return response.statusCode() == 400 ? "conflict" : String.valueOf(response.statusCode());
+    }
+
+    private void release(String createdReservation) throws IOException, InterruptedException {
+        long id = objectMapper.readTree(createdReservation).get("id").asLong();
+        send(HttpRequest.newBuilder(URI.create(baseUrl + "/admin/reservations/" + id))
+                .header("Cookie", adminCookie)
+                .DELETE()
+                .build());
+    }
+
+    private String search() throws IOException, InterruptedException {
+        LocalDate today = LocalDate.now();
+        HttpResponse<Void> response = send(get("/admin/reservations?start-date=" + today
+                + "&end-date=" + today.plusDays(30) + "&limit=50", adminCookie));
+        return String.valueOf(response.statusCode());
+    }
+
+    private String loginUntilSuccess(String email, String password) throws IOException, InterruptedException {
+        List<Integer> failures = new ArrayList<>();
+        while (failures.size() < 50) {
+            HttpResponse<Void> response = sendLogin(email, password);
+            if (response.statusCode() == 200) {
+                return response.headers()
+                        .firstValue("Set-Cookie")
+                        .map(value -> value.split(";", 2)[0])
+                        .orElseThrow();
+            }
+            failures.add(response.statusCode());
+            TimeUnit.MILLISECONDS.sleep(100L * failures.size());
+        }
+        throw new IllegalStateException(email + " 로그인에 실패했습니다: " + failures);
+    }
+
+    private HttpResponse<Void> sendLogin(String email, String password) throws IOException, InterruptedException {
+        String body = "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}";
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/members/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+    }
+
+    private HttpRequest get(String path, String cookie) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+        if (cookie != null) {
+            builder.header("Cookie", cookie);
+        }
+        return builder.build();
+    }
+
+    private HttpResponse<Void> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private static String emailOf(int user) {
+        return "load" + user + "@roomescape.com";
+    }
+}
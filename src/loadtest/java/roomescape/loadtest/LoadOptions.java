@@ -0,0 +1,99 @@
+package roomescape.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+public class LoadOptions {
+
+    private static final String DEFAULT_MIX = "login:10,browse:60,reserve:20,search:10";
+
+    private final int users;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int hotSlots;
+    private final Map<Operation, Integer> mix;
+    private final Path output;
+
+    private LoadOptions(int users, Duration warmup, Duration duration, int hotSlots, Map<Operation, Integer> mix,
+                        Path output) {
+        this.users = users;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.hotSlots = hotSlots;
+        this.mix = mix;
+        this.output = output;
+    }
+
+    public static LoadOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("옵션은 --name=value 형식이어야 합니다: " + arg);
+            }
+            String[] pair = arg.substring(2).split("=", 2);
+            values.put(pair[0], pair[1]);
+        }
+        return new LoadOptions(
+                Integer.parseInt(values.getOrDefault("users", "100")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup-seconds", "5"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration-seconds", "30"))),
+                Integer.parseInt(values.getOrDefault("hot-slots", "6")),
+                parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+                Path.of(values.getOrDefault("output", "build/loadtest/report.json")));
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.split(":", 2);
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("요청 비율은 0 이상이어야 합니다: " + entry);
+            }
+            mix.put(Operation.from(pair[0].trim()), weight);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("요청 비율의 합은 0보다 커야 합니다.");
+        }
+        return mix;
+    }
+
+    public Operation pick(int random) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int point = Math.floorMod(random, total);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            point -= entry.getValue();
+            if (point < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public int getHotSlots() {
+        return hotSlots;
+    }
+
+    public Map<Operation, Integer> getMix() {
+        return mix;
+    }
+
+    public Path getOutput() {
+        return output;
+    }
+}
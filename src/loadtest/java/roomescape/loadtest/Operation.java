@@ -0,0 +1,23 @@
+package roomescape.loadtest;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+public enum Operation {
+
+    LOGIN,
+    BROWSE,
+    RESERVE,
+    SEARCH;
+
+    public static Operation from(String name) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.name().equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 요청 종류입니다: " + name));
+    }
+
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
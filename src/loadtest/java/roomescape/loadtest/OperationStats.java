@@ -0,0 +1,43 @@
+package roomescape.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+public class OperationStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    public void record(long elapsedNanos, String outcome) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS);
+        latencies.recordValue(micros);
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    public void reset() {
+        latencies.reset();
+        outcomes.clear();
+    }
+
+    public Map<String, Object> toReport(double seconds) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        Map<String, Long> outcomeCounts = new LinkedHashMap<>();
+        outcomes.forEach((outcome, count) -> outcomeCounts.put(outcome, count.sum()));
+        report.put("count", latencies.getTotalCount());
+        report.put("throughput", latencies.getTotalCount() / seconds);
+        report.put("outcomes", outcomeCounts);
+        report.put("meanMillis", latencies.getMean() / 1000.0);
+        report.put("p50Millis", latencies.getValueAtPercentile(50) / 1000.0);
+        report.put("p99Millis", latencies.getValueAtPercentile(99) / 1000.0);
+        report.put("p999Millis", latencies.getValueAtPercentile(99.9) / 1000.0);
+        report.put("maxMillis", latencies.getMaxValue() / 1000.0);
+        return report;
+    }
+}
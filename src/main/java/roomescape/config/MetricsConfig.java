@@ -0,0 +1,108 @@
+package roomescape.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Repository;
+import roomescape.global.ConcurrencyLimitingDataSource;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor repositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!AnnotatedElementUtils.hasAnnotation(bean.getClass(), Repository.class)) {
+                    return bean;
+                }
+                ProxyFactory proxyFactory = new ProxyFactory(bean);
+                proxyFactory.setProxyTargetClass(true);
+                proxyFactory.addAdvice(repositoryMetricsInterceptor(bean.getClass().getSimpleName(), meterRegistry));
+                return proxyFactory.getProxy();
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder dataSourceGuardMetrics(ObjectProvider<DataSource> dataSource) {
+        return registry -> dataSource.ifAvailable(source -> {
+            ConcurrencyLimitingDataSource guard = unwrapGuard(source);
+            if (guard != null) {
+                Gauge.builder("roomescape.datasource.guard.available", guard,
+                                ConcurrencyLimitingDataSource::getAvailablePermits)
+                        .register(registry);
+                Gauge.builder("roomescape.datasource.guard.waiting", guard,
+                                ConcurrencyLimitingDataSource::getQueueLength)
+                        .register(registry);
+            }
+        });
+    }
+
+    private static MethodInterceptor repositoryMetricsInterceptor(String repository,
+                                                                  ObjectProvider<MeterRegistry> meterRegistry) {
+        return invocation -> {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null || invocation.getMethod().getDeclaringClass() == Object.class) {
+                return invocation.proceed();
+            }
+            String method = invocation.getMethod().getName();
+            Timer.Sample sample = Timer.start(registry);
+            String outcome = "success";
+            try {
+                Object result = invocation.proceed();
+                rowCountOf(result).ifPresent(rows -> DistributionSummary.builder("repository.rows")
+                        .tags("repository", repository, "method", method)
+                        .register(registry)
+                        .record(rows));
+                return result;
+            } catch (Throwable e) {
+                outcome = e.getClass().getSimpleName();
+                throw e;
+            } finally {
+                sample.stop(Timer.builder("repository.query")
+                        .tags("repository", repository, "method", method, "outcome", outcome)
+                        .register(registry));
+            }
+        };
+    }
+
+    private static ConcurrencyLimitingDataSource unwrapGuard(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(ConcurrencyLimitingDataSource.class)) {
+                return dataSource.unwrap(ConcurrencyLimitingDataSource.class);
+            }
+            return null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private static Optional<Integer> rowCountOf(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return Optional.of(collection.size());
+        }
+        if (result instanceof Map<?, ?> map) {
+            return Optional.of(map.size());
+        }
+        if (result instanceof Optional<?> optional) {
+            return Optional.of(optional.isPresent() ? 1 : 0);
+        }
+        return Optional.empty();
+    }
+}
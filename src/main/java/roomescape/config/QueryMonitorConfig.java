@@ -0,0 +1,28 @@
+package roomescape.config;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import roomescape.global.QueryMonitoringDataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "query-monitor.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryMonitorConfig {
+
+    @Bean
+    public static BeanPostProcessor queryMonitoringDataSourcePostProcessor(
+            @Value("${query-monitor.slow-threshold:200}") long slowThresholdMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryMonitoringDataSource)) {
+                    return new QueryMonitoringDataSource(dataSource, slowThresholdMillis);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package roomescape.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import roomescape.controller.helper.RateLimitInterceptor;
+import roomescape.global.TokenBucketRateLimiter;
+
+@Configuration
+public class RateLimitWebMvcConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+    private final TokenBucketRateLimiter loginRateLimiter;
+    private final TokenBucketRateLimiter reservationRateLimiter;
+    private final TokenBucketRateLimiter availableTimeRateLimiter;
+
+    public RateLimitWebMvcConfig(ObjectMapper objectMapper,
+                                 @Value("${rate-limit.login.capacity:10}") int loginCapacity,
+                                 @Value("${rate-limit.login.per-minute:20}") int loginPerMinute,
+                                 @Value("${rate-limit.reservation.capacity:20}") int reservationCapacity,
+                                 @Value("${rate-limit.reservation.per-minute:60}") int reservationPerMinute,
+                                 @Value("${rate-limit.available-time.capacity:60}") int availableTimeCapacity,
+                                 @Value("${rate-limit.available-time.per-minute:600}") int availableTimePerMinute) {
+        this.objectMapper = objectMapper;
+        this.loginRateLimiter = new TokenBucketRateLimiter(loginCapacity, loginPerMinute);
+        this.reservationRateLimiter = new TokenBucketRateLimiter(reservationCapacity, reservationPerMinute);
+        this.availableTimeRateLimiter = new TokenBucketRateLimiter(availableTimeCapacity, availableTimePerMinute);
+    }
+
+    @Bean
+    public TokenBucketRateLimiter availableTimeRateLimiter() {
+        return availableTimeRateLimiter;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RateLimitInterceptor(loginRateLimiter, objectMapper))
+                .addPathPatterns("/members/login");
+        registry.addInterceptor(new RateLimitInterceptor(reservationRateLimiter, objectMapper))
+                .addPathPatterns("/reservations");
+        registry.addInterceptor(new RateLimitInterceptor(availableTimeRateLimiter, objectMapper))
+                .addPathPatterns("/times/available");
+    }
+}
@@ -0,0 +1,31 @@
+package roomescape.config;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import roomescape.global.ConcurrencyLimitingDataSource;
+
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(
+            @Value("${datasource-guard.max-connections:${spring.datasource.hikari.maximum-pool-size:10}}")
+            int maxConnections,
+            @Value("${datasource-guard.acquire-timeout:3000}") long acquireTimeoutMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitingDataSource)) {
+                    return new ConcurrencyLimitingDataSource(dataSource, maxConnections, acquireTimeoutMillis);
+                }
+                return bean;
+            }
+        };
+    }
+}
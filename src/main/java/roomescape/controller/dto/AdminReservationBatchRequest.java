@@ -0,0 +1,31 @@
+package roomescape.controller.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonCreator.Mode;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import roomescape.service.dto.reservation.ReservationCreate;
+
+public class AdminReservationBatchRequest {
+
+    @NotEmpty(message = "일괄 생성할 예약은 반드시 입력되어야 합니다.")
+    @Size(max = 500, message = "한 번에 생성할 수 있는 예약은 500개까지 가능합니다.")
+    private final List<@Valid AdminReservationRequest> reservations;
+
+    @JsonCreator(mode = Mode.PROPERTIES)
+    public AdminReservationBatchRequest(List<AdminReservationRequest> reservations) {
+        this.reservations = reservations;
+    }
+
+    public List<ReservationCreate> toCreateReservations() {
+        return reservations.stream()
+                .map(AdminReservationRequest::toCreateReservation)
+                .toList();
+    }
+
+    public List<AdminReservationRequest> getReservations() {
+        return reservations;
+    }
+}
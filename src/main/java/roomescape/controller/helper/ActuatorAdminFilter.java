@@ -0,0 +1,68 @@
+package roomescape.controller.helper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.URI;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+@Order(1)
+@Component
+public class ActuatorAdminFilter extends OncePerRequestFilter {
+
+    private final AdminCheckInterceptor adminCheckInterceptor;
+    private final ObjectMapper objectMapper;
+    private final String actuatorBasePath;
+
+    public ActuatorAdminFilter(AdminCheckInterceptor adminCheckInterceptor, ObjectMapper objectMapper,
+                               @Value("${management.endpoints.web.base-path:/actuator}") String actuatorBasePath) {
+        this.adminCheckInterceptor = adminCheckInterceptor;
+        this.objectMapper = objectMapper;
+        this.actuatorBasePath = actuatorBasePath;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+        return !path.equals(actuatorBasePath) && !path.startsWith(actuatorBasePath + "/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean admin;
+        try {
+            admin = adminCheckInterceptor.preHandle(request, response, null);
+        } catch (JwtException e) {
+            writeProblem(request, response, HttpStatus.UNAUTHORIZED, e.getMessage());
+            return;
+        } catch (IllegalArgumentException e) {
+            writeProblem(request, response, HttpStatus.BAD_REQUEST, e.getMessage());
+            return;
+        }
+        if (admin) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private void writeProblem(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                              String detail) throws IOException {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, detail);
+        problemDetail.setInstance(URI.create(request.getRequestURI()));
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), problemDetail);
+    }
+}
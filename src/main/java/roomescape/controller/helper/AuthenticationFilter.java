@@ -0,0 +1,64 @@
+package roomescape.controller.helper;
+
+import static roomescape.global.Constants.TOKEN_NAME;
+
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import roomescape.global.CookieUtils;
+import roomescape.global.JwtManager;
+
+@Order(0)
+@Component
+public class AuthenticationFilter extends OncePerRequestFilter {
+
+    private static final List<String> STATIC_RESOURCE_PREFIXES = List.of("/css/", "/js/", "/image/");
+    private static final Set<String> PUBLIC_PAGES = Set.of("/", "/login", "/signup", "/reservation", "/favicon.ico");
+
+    private final JwtManager jwtManager;
+    private final Counter jwtFailureCounter;
+
+    public AuthenticationFilter(JwtManager jwtManager, MeterRegistry meterRegistry) {
+        this.jwtManager = jwtManager;
+        this.jwtFailureCounter = Counter.builder("roomescape.jwt.failures")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return PUBLIC_PAGES.contains(path) || STATIC_RESOURCE_PREFIXES.stream().anyMatch(path::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        authenticate(request).bindTo(request);
+        filterChain.doFilter(request, response);
+    }
+
+    private RequestAuthentication authenticate(HttpServletRequest request) {
+        Optional<Cookie> cookie = CookieUtils.findCookie(request, TOKEN_NAME);
+        if (cookie.isEmpty()) {
+            return RequestAuthentication.anonymous();
+        }
+        try {
+            return RequestAuthentication.authenticated(jwtManager.resolveLoginMember(cookie.get().getValue()));
+        } catch (JwtException | IllegalArgumentException e) {
+            jwtFailureCounter.increment();
+            return RequestAuthentication.failed(e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package roomescape.controller.helper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import roomescape.global.QueryCounter;
+
+@Order(2)
+@Component
+@ConditionalOnProperty(name = "query-monitor.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    private final int maxStatements;
+    private final int maxRepeatedStatements;
+
+    public QueryCountFilter(@Value("${query-monitor.max-statements-per-request:10}") int maxStatements,
+                            @Value("${query-monitor.max-repeated-statements:2}") int maxRepeatedStatements) {
+        this.maxStatements = maxStatements;
+        this.maxRepeatedStatements = maxRepeatedStatements;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            report(request, QueryCounter.end());
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryCounter counter) {
+        if (counter.getTotal() > maxStatements) {
+            log.warn("{} {} 요청에서 쿼리를 {}번 실행했습니다. (기준 {}번)",
+                    request.getMethod(), request.getRequestURI(), counter.getTotal(), maxStatements);
+        }
+        Map<String, Integer> repeatedShapes = counter.findRepeatedShapes(maxRepeatedStatements);
+        repeatedShapes.forEach((shape, count) -> log.warn("{} {} 요청에서 같은 쿼리를 {}번 실행했습니다: {}",
+                request.getMethod(), request.getRequestURI(), count, shape));
+    }
+}
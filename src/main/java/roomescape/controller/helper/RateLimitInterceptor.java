@@ -0,0 +1,49 @@
+package roomescape.controller.helper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.servlet.HandlerInterceptor;
+import roomescape.global.TokenBucketRateLimiter;
+
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitInterceptor(TokenBucketRateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        long waitNanos = rateLimiter.tryAcquire(keyOf(request));
+        if (waitNanos == 0) {
+            return true;
+        }
+
+        long retryAfterSeconds = TokenBucketRateLimiter.retryAfterSeconds(waitNanos);
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS,
+                "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), problemDetail);
+        return false;
+    }
+
+    private String keyOf(HttpServletRequest request) {
+        return RequestAuthentication.from(request)
+                .findLoginMember()
+                .map(loginMember -> "member:" + loginMember.getId())
+                .orElseGet(() -> "ip:" + request.getRemoteAddr());
+    }
+}
@@ -0,0 +1,61 @@
+package roomescape.controller.helper;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Optional;
+import roomescape.service.exception.UnauthorizedException;
+
+public class RequestAuthentication {
+
+    private static final String ATTRIBUTE_NAME = RequestAuthentication.class.getName();
+    private static final RequestAuthentication ANONYMOUS = new RequestAuthentication(null, null);
+
+    private final LoginMember loginMember;
+    private final RuntimeException failure;
+
+    private RequestAuthentication(LoginMember loginMember, RuntimeException failure) {
+        this.loginMember = loginMember;
+        this.failure = failure;
+    }
+
+    public static RequestAuthentication anonymous() {
+        return ANONYMOUS;
+    }
+
+    public static RequestAuthentication authenticated(LoginMember loginMember) {
+        return new RequestAuthentication(loginMember, null);
+    }
+
+    public static RequestAuthentication failed(RuntimeException failure) {
+        return new RequestAuthentication(null, failure);
+    }
+
+    public static RequestAuthentication from(HttpServletRequest request) {
+        Object authentication = request.getAttribute(ATTRIBUTE_NAME);
+        if (authentication instanceof RequestAuthentication requestAuthentication) {
+            return requestAuthentication;
+        }
+        return ANONYMOUS;
+    }
+
+    public void bindTo(HttpServletRequest request) {
+        request.setAttribute(ATTRIBUTE_NAME, this);
+    }
+
+    public boolean isAnonymous() {
+        return loginMember == null && failure == null;
+    }
+
+    public Optional<LoginMember> findLoginMember() {
+        return Optional.ofNullable(loginMember);
+    }
+
+    public LoginMember getLoginMember() {
+        if (failure != null) {
+            throw failure;
+        }
+        if (loginMember == null) {
+            throw new UnauthorizedException("권한이 없습니다. 로그인을 다시 시도해주세요.");
+        }
+        return loginMember;
+    }
+}
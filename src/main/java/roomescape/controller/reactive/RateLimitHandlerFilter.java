@@ -0,0 +1,45 @@
+package roomescape.controller.reactive;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import roomescape.global.TokenBucketRateLimiter;
+
+public class RateLimitHandlerFilter implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+
+    private final TokenBucketRateLimiter rateLimiter;
+
+    public RateLimitHandlerFilter(TokenBucketRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public Mono<ServerResponse> filter(ServerRequest request, HandlerFunction<ServerResponse> next) {
+        long waitNanos = rateLimiter.tryAcquire(keyOf(request));
+        if (waitNanos == 0) {
+            return next.handle(request);
+        }
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS,
+                "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        return ServerResponse.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(TokenBucketRateLimiter.retryAfterSeconds(waitNanos)))
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .bodyValue(problemDetail);
+    }
+
+    private static String keyOf(ServerRequest request) {
+        return "ip:" + request.remoteAddress()
+                .map(InetSocketAddress::getAddress)
+                .map(InetAddress::getHostAddress)
+                .orElse("unknown");
+    }
+}
@@ -0,0 +1,135 @@
+package roomescape.controller.reactive;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import roomescape.service.JsonSnapshot;
+import roomescape.service.ReservationTimeService;
+import roomescape.service.ThemeService;
+import roomescape.service.dto.theme.PopularThemeRequest;
+import roomescape.service.dto.time.AvailableTimeRequest;
+
+@Component
+@ConditionalOnProperty(name = "reactive-read.enabled", havingValue = "true")
+public class ReactiveReadHandler implements DisposableBean {
+
+    private final ThemeService themeService;
+    private final ReservationTimeService reservationTimeService;
+    private final Validator validator;
+    private final Scheduler blockingScheduler;
+
+    public ReactiveReadHandler(ThemeService themeService, ReservationTimeService reservationTimeService,
+                               Validator validator,
+                               @Value("${reactive-read.blocking-threads:4}") int blockingThreads) {
+        this.themeService = themeService;
+        this.reservationTimeService = reservationTimeService;
+        this.validator = validator;
+        this.blockingScheduler = Schedulers.newBoundedElastic(
+                blockingThreads, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "reactive-read-blocking");
+    }
+
+    public Mono<ServerResponse> findAllThemes(ServerRequest request) {
+        return snapshot(request, themeService.findLoadedThemesJson(), themeService::findAllThemesJson);
+    }
+
+    public Mono<ServerResponse> findReservationTimes(ServerRequest request) {
+        return snapshot(request, reservationTimeService.findLoadedReservationTimesJson(),
+                reservationTimeService::findAllReservationTimesJson);
+    }
+
+    public Mono<ServerResponse> findAvailableReservationTimes(ServerRequest request) {
+        AvailableTimeRequest timeRequest = new AvailableTimeRequest(
+                request.queryParam("date").orElse(null),
+                request.queryParam("themeId").map(Long::valueOf).orElse(null));
+        return validate(timeRequest)
+                .map(ReactiveReadHandler::badRequest)
+                .orElseGet(() -> {
+                    if (reservationTimeService.isAvailabilityIndexed(timeRequest)) {
+                        return ServerResponse.ok()
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(reservationTimeService.findAvailableReservationTimes(timeRequest));
+                    }
+                    return Mono.fromCallable(() -> reservationTimeService.findAvailableReservationTimes(timeRequest))
+                            .subscribeOn(blockingScheduler)
+                            .flatMap(times -> ServerResponse.ok()
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .bodyValue(times));
+                });
+    }
+
+    public Mono<ServerResponse> findTopBookedThemes(ServerRequest request) {
+        PopularThemeRequest themeRequest = new PopularThemeRequest(
+                request.queryParam("start-date").orElse(null),
+                request.queryParam("end-date").orElse(null),
+                request.queryParam("count").map(Integer::valueOf).orElse(null));
+        return validate(themeRequest)
+                .map(ReactiveReadHandler::badRequest)
+                .orElseGet(() -> Mono.fromCallable(() -> themeService.findTopBookedThemes(themeRequest))
+                        .subscribeOn(blockingScheduler)
+                        .flatMap(themes -> ServerResponse.ok()
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(themes)));
+    }
+
+    public Mono<ServerResponse> handleError(Throwable error) {
+        if (error instanceof IllegalArgumentException) {
+            return badRequest(error.getMessage());
+        }
+        return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .bodyValue(ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR,
+                        "죄송합니다. 서버에서 문제가 발생하여 요청을 처리할 수 없습니다."));
+    }
+
+    @Override
+    public void destroy() {
+        blockingScheduler.dispose();
+    }
+
+    private Mono<ServerResponse> snapshot(ServerRequest request, Optional<JsonSnapshot> loadedSnapshot,
+                                          Supplier<JsonSnapshot> loader) {
+        return loadedSnapshot.map(snapshot -> snapshot(request, snapshot))
+                .orElseGet(() -> Mono.fromCallable(loader::get)
+                        .subscribeOn(blockingScheduler)
+                        .flatMap(snapshot -> snapshot(request, snapshot)));
+    }
+
+    private Mono<ServerResponse> snapshot(ServerRequest request, JsonSnapshot snapshot) {
+        if (request.headers().header("If-None-Match").contains(snapshot.getETag())) {
+            return ServerResponse.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.getETag())
+                    .build();
+        }
+        return ServerResponse.ok()
+                .eTag(snapshot.getETag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(snapshot.getBody());
+    }
+
+    private <T> Optional<String> validate(T target) {
+        Set<ConstraintViolation<T>> violations = validator.validate(target);
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .findFirst();
+    }
+
+    private static Mono<ServerResponse> badRequest(String message) {
+        return ServerResponse.badRequest()
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .bodyValue(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, message));
+    }
+}
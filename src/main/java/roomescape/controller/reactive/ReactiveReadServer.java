@@ -0,0 +1,91 @@
+package roomescape.controller.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+import roomescape.global.TokenBucketRateLimiter;
+
+@Component
+@ConditionalOnProperty(name = "reactive-read.enabled", havingValue = "true")
+public class ReactiveReadServer implements SmartLifecycle {
+
+    private final ReactiveReadHandler handler;
+    private final ObjectMapper objectMapper;
+    private final RateLimitHandlerFilter availableTimeRateLimit;
+    private final int port;
+    private final int eventLoopThreads;
+    private LoopResources loopResources;
+    private volatile DisposableServer server;
+
+    public ReactiveReadServer(ReactiveReadHandler handler, ObjectMapper objectMapper,
+                              TokenBucketRateLimiter availableTimeRateLimiter,
+                              @Value("${reactive-read.port:8081}") int port,
+                              @Value("${reactive-read.event-loop-threads:2}") int eventLoopThreads) {
+        this.handler = handler;
+        this.objectMapper = objectMapper;
+        this.availableTimeRateLimit = new RateLimitHandlerFilter(availableTimeRateLimiter);
+        this.port = port;
+        this.eventLoopThreads = eventLoopThreads;
+    }
+
+    @Override
+    public void start() {
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(configurer -> configurer.defaultCodecs().jackson2JsonEncoder(
+                        new Jackson2JsonEncoder(objectMapper,
+                                MediaType.APPLICATION_JSON, MediaType.APPLICATION_PROBLEM_JSON)))
+                .build();
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(routes(), strategies);
+        loopResources = LoopResources.create("reactive-read", eventLoopThreads, true);
+        server = HttpServer.create()
+                .port(port)
+                .runOn(loopResources)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+    }
+
+    @Override
+    public void stop() {
+        server.disposeNow();
+        loopResources.dispose();
+        server = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    public int getPort() {
+        return server.port();
+    }
+
+    private RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .GET("/themes", deferred(handler::findAllThemes))
+                .GET("/themes/popular", deferred(handler::findTopBookedThemes))
+                .GET("/times", deferred(handler::findReservationTimes))
+                .GET("/times/available", deferred(availableTimeRateLimit.apply(handler::findAvailableReservationTimes)))
+                .onError(Throwable.class, (error, request) -> handler.handleError(error))
+                .build();
+    }
+
+    private static HandlerFunction<ServerResponse> deferred(HandlerFunction<ServerResponse> handlerFunction) {
+        return request -> Mono.defer(() -> handlerFunction.handle(request));
+    }
+}
@@ -1,10 +1,15 @@
 package roomescape.controller.reservation;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
-import java.time.LocalTime;
 import java.util.List;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -13,11 +18,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import roomescape.controller.dto.AdminReservationBatchRequest;
 import roomescape.controller.dto.AdminReservationRequest;
 import roomescape.controller.dto.MemberReservationRequest;
 import roomescape.controller.helper.AuthenticationPrincipal;
 import roomescape.controller.helper.LoginMember;
 import roomescape.service.ReservationService;
+import roomescape.service.dto.reservation.ReservationBatchResponse;
 import roomescape.service.dto.reservation.ReservationCreate;
 import roomescape.service.dto.reservation.ReservationResponse;
 import roomescape.service.dto.reservation.ReservationSearchParams;
@@ -25,21 +33,56 @@ import roomescape.service.dto.reservation.ReservationSearchParams;
 @RestController
 public class ReservationRestController {
 
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    private static final byte LINE_SEPARATOR = '\n';
+
     private final ReservationService reservationService;
+    private final ObjectMapper objectMapper;
 
-    public ReservationRestController(ReservationService reservationService) {
+    public ReservationRestController(ReservationService reservationService, ObjectMapper objectMapper) {
         this.reservationService = reservationService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping("/admin/reservations")
-    public List<ReservationResponse> findReservations(
+    public ResponseEntity<List<ReservationResponse>> findReservations(
             @RequestParam(name = "member", required = false) Long memberId,
             @RequestParam(name = "theme", required = false) Long themeId,
             @RequestParam(name = "start-date", required = false) LocalDate dateFrom,
-            @RequestParam(name = "end-date", required = false) LocalTime dateTo) {
+            @RequestParam(name = "end-date", required = false) LocalDate dateTo,
+            @RequestParam(name = "after-date", required = false) LocalDate afterDate,
+            @RequestParam(name = "after-id", required = false) Long afterId,
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestParam(name = "include-total", defaultValue = "false") boolean includeTotal) {
+
+        ReservationSearchParams request = new ReservationSearchParams(
+                memberId, themeId, dateFrom, dateTo, afterDate, afterId, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (includeTotal) {
+            response.header(TOTAL_COUNT_HEADER, String.valueOf(reservationService.countReservations(request)));
+        }
+        return response.body(reservationService.findAllReservations(request));
+    }
+
+    @GetMapping(value = "/admin/reservations/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody exportReservations(
+            @RequestParam(name = "member", required = false) Long memberId,
+            @RequestParam(name = "theme", required = false) Long themeId,
+            @RequestParam(name = "start-date", required = false) LocalDate dateFrom,
+            @RequestParam(name = "end-date", required = false) LocalDate dateTo) {
 
         ReservationSearchParams request = new ReservationSearchParams(memberId, themeId, dateFrom, dateTo);
-        return reservationService.findAllReservations(request);
+        return outputStream -> reservationService.forEachReservation(request,
+                response -> writeLine(outputStream, response));
+    }
+
+    private void writeLine(OutputStream outputStream, ReservationResponse response) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(response));
+            outputStream.write(LINE_SEPARATOR);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @ResponseStatus(HttpStatus.CREATED)
@@ -55,6 +98,12 @@ public class ReservationRestController {
         return reservationService.createReservation(reservation.toCreateReservation());
     }
 
+    @PostMapping("/admin/reservations/batch")
+    public List<ReservationBatchResponse> createReservationsAdmin(
+            @Valid @RequestBody AdminReservationBatchRequest request) {
+        return reservationService.createReservations(request.toCreateReservations());
+    }
+
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @DeleteMapping("/admin/reservations/{id}")
     public void deleteReservation(@PathVariable long id) {
@@ -1,8 +1,9 @@
 package roomescape.controller.reservation;
 
 import jakarta.validation.Valid;
-import java.util.List;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -10,9 +11,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import roomescape.service.JsonSnapshot;
 import roomescape.service.ReservationTimeService;
 import roomescape.service.dto.reservation.ReservationTimeRequest;
 import roomescape.service.dto.reservation.ReservationTimeResponse;
+import roomescape.service.dto.time.AvailabilityMatrixRequest;
+import roomescape.service.dto.time.AvailabilityMatrixResponse;
 import roomescape.service.dto.time.AvailableTimeRequest;
 import roomescape.service.dto.time.AvailableTimeResponses;
 
@@ -26,8 +30,12 @@ public class ReservationTimeRestController {
     }
 
     @GetMapping("/times")
-    public List<ReservationTimeResponse> findReservationTimes() {
-        return reservationTimeService.findAllReservationTimes();
+    public ResponseEntity<byte[]> findReservationTimes() {
+        JsonSnapshot times = reservationTimeService.findAllReservationTimesJson();
+        return ResponseEntity.ok()
+                .eTag(times.getETag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(times.getBody());
     }
 
     @GetMapping("/times/available")
@@ -35,6 +43,11 @@ public class ReservationTimeRestController {
         return reservationTimeService.findAvailableReservationTimes(request);
     }
 
+    @GetMapping("/times/availability")
+    public AvailabilityMatrixResponse findAvailabilityMatrix(@Valid AvailabilityMatrixRequest request) {
+        return reservationTimeService.findAvailabilityMatrix(request);
+    }
+
     @ResponseStatus(HttpStatus.CREATED)
     @PostMapping("/admin/times")
     public ReservationTimeResponse createReservationTime(@Valid @RequestBody ReservationTimeRequest request) {
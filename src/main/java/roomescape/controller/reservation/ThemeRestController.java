@@ -3,6 +3,8 @@ package roomescape.controller.reservation;
 import jakarta.validation.Valid;
 import java.util.List;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -11,6 +13,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import roomescape.service.JsonSnapshot;
 import roomescape.service.ThemeService;
 import roomescape.service.dto.theme.PopularThemeRequest;
 import roomescape.service.dto.theme.ThemeRequest;
@@ -26,8 +29,12 @@ public class ThemeRestController {
     }
 
     @GetMapping("/themes")
-    public List<ThemeResponse> findAllThemes() {
-        return themeService.findAllThemes();
+    public ResponseEntity<byte[]> findAllThemes() {
+        JsonSnapshot themes = themeService.findAllThemesJson();
+        return ResponseEntity.ok()
+                .eTag(themes.getETag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(themes.getBody());
     }
 
     @GetMapping("/themes/popular")
@@ -37,6 +44,12 @@ public class ThemeRestController {
         return themeService.findTopBookedThemes(new PopularThemeRequest(startDate, endDate, count));
     }
 
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PostMapping("/admin/themes/popular/rebuild")
+    public void rebuildPopularThemes() {
+        themeService.rebuildThemeStats();
+    }
+
     @ResponseStatus(HttpStatus.CREATED)
     @PostMapping("/admin/themes")
     public ThemeResponse createTheme(@Valid @RequestBody ThemeRequest request) {
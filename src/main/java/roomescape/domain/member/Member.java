@@ -36,10 +36,6 @@ public class Member {
         );
     }
 
-    public boolean isMismatchedPassword(MemberPassword other) {
-        return this.password.isMismatchedPassword(other);
-    }
-
     public Long getId() {
         return id;
     }
@@ -10,10 +10,6 @@ public class MemberPassword {
         this.value = value;
     }
 
-    public boolean isMismatchedPassword(MemberPassword other) {
-        return !Objects.equals(this.value, other.value);
-    }
-
     public String getValue() {
         return value;
     }
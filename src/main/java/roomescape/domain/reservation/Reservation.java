@@ -22,20 +22,18 @@ public class Reservation {
         this.time = time;
     }
 
-    public Reservation(Long id, Long memberId, String email, String password, String memberName, String role,
-                       Long themeId, String themeName, String description, String thumbnail, String date, Long timeId,
-                       String time) {
-        this(id,
-                new Member(memberId, email, password, memberName, role),
-                new Theme(themeId, themeName, description, thumbnail),
-                LocalDate.parse(date),
-                new ReservationTime(timeId, time));
+    public Reservation withId(Long id) {
+        return new Reservation(id, member, theme, date, time);
     }
 
     public static boolean isPreviousDate(LocalDate date, ReservationTime time) {
         return LocalDateTime.of(date, time.getStartAt()).isBefore(LocalDateTime.now());
     }
 
+    public ReservationSlot getSlot() {
+        return new ReservationSlot(theme.getId(), date, time.getId());
+    }
+
     public Long getId() {
         return id;
     }
@@ -0,0 +1,47 @@
+package roomescape.domain.reservation;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+public class ReservationSlot {
+
+    private final Long themeId;
+    private final LocalDate date;
+    private final Long timeId;
+
+    public ReservationSlot(Long themeId, LocalDate date, Long timeId) {
+        this.themeId = themeId;
+        this.date = date;
+        this.timeId = timeId;
+    }
+
+    public Long getThemeId() {
+        return themeId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public Long getTimeId() {
+        return timeId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReservationSlot that = (ReservationSlot) o;
+        return Objects.equals(themeId, that.themeId) && Objects.equals(date, that.date)
+                && Objects.equals(timeId, that.timeId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(themeId, date, timeId);
+    }
+}
@@ -0,0 +1,47 @@
+package roomescape.domain.reservation;
+
+import java.time.LocalDate;
+
+public class ReservationSummary {
+
+    private final long id;
+    private final long memberId;
+    private final String memberName;
+    private final Theme theme;
+    private final LocalDate date;
+    private final ReservationTime time;
+
+    public ReservationSummary(long id, long memberId, String memberName, Theme theme, LocalDate date,
+                              ReservationTime time) {
+        this.id = id;
+        this.memberId = memberId;
+        this.memberName = memberName;
+        this.theme = theme;
+        this.date = date;
+        this.time = time;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public long getMemberId() {
+        return memberId;
+    }
+
+    public String getMemberName() {
+        return memberName;
+    }
+
+    public Theme getTheme() {
+        return theme;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public ReservationTime getTime() {
+        return time;
+    }
+}
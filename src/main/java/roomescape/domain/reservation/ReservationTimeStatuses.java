@@ -1,7 +1,9 @@
 package roomescape.domain.reservation;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public class ReservationTimeStatuses {
 
@@ -17,9 +19,10 @@ public class ReservationTimeStatuses {
 
     private static List<ReservationTimeStatus> convertToTimeStatuses(List<ReservationTime> allTimes,
                                                                      List<ReservationTime> bookedTimes) {
-        List<ReservationTimeStatus> timeStatuses = new ArrayList<>();
+        Set<ReservationTime> bookedTimeSet = new HashSet<>(bookedTimes);
+        List<ReservationTimeStatus> timeStatuses = new ArrayList<>(allTimes.size());
         for (ReservationTime time : allTimes) {
-            boolean booked = bookedTimes.contains(time);
+            boolean booked = bookedTimeSet.contains(time);
             ReservationStatus status = booked ? ReservationStatus.BOOKED : ReservationStatus.AVAILABLE;
             timeStatuses.add(new ReservationTimeStatus(time, status));
         }
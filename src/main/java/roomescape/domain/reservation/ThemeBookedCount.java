@@ -0,0 +1,28 @@
+package roomescape.domain.reservation;
+
+import java.time.LocalDate;
+
+public class ThemeBookedCount {
+
+    private final long themeId;
+    private final LocalDate date;
+    private final long bookedCount;
+
+    public ThemeBookedCount(long themeId, LocalDate date, long bookedCount) {
+        this.themeId = themeId;
+        this.date = date;
+        this.bookedCount = bookedCount;
+    }
+
+    public long getThemeId() {
+        return themeId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public long getBookedCount() {
+        return bookedCount;
+    }
+}
@@ -1,18 +1,37 @@
 package roomescape.exception;
 
 import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import roomescape.service.exception.PasswordHashingBusyException;
+import roomescape.service.exception.ReservationConflictException;
 import roomescape.service.exception.UnauthorizedException;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final Counter reservationConflictCounter;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.reservationConflictCounter = Counter.builder("roomescape.reservation.conflicts")
+                .register(meterRegistry);
+    }
+
+    @ExceptionHandler
+    public ProblemDetail handleReservationConflictException(ReservationConflictException ex) {
+        reservationConflictCounter.increment();
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
     @ExceptionHandler
     public ProblemDetail handleIllegalArgumentException(IllegalArgumentException ex) {
         return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
@@ -43,6 +62,13 @@ public class GlobalExceptionHandler {
         return ProblemDetail.forStatusAndDetail(HttpStatus.UNAUTHORIZED, ex.getMessage());
     }
 
+    @ExceptionHandler
+    public ResponseEntity<ProblemDetail> handlePasswordHashingBusyException(PasswordHashingBusyException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage()));
+    }
+
     @ExceptionHandler
     public ProblemDetail handleException(Exception ex) {
         return ProblemDetail.forStatusAndDetail(HttpStatus.INTERNAL_SERVER_ERROR,
@@ -3,6 +3,7 @@ package roomescape.global;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -12,31 +13,43 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Date;
 import java.util.Optional;
+import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import roomescape.controller.helper.LoginMember;
 import roomescape.domain.member.Member;
+import roomescape.domain.member.Role;
 import roomescape.service.exception.UnauthorizedException;
 
 @Component
 public class JwtManager {
 
     private static final String TOKEN = "token";
+    private static final String NAME = "name";
+    private static final String ROLE = "role";
 
-    private final String tokenSecretKey;
+    private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long tokenExpirationPeriod;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     public JwtManager(@Value("${security.jwt.secret-key}") String tokenSecretKey,
-                      @Value("${security.jwt.expiration-period}") long tokenExpirationPeriod) {
-        this.tokenSecretKey = tokenSecretKey;
+                      @Value("${security.jwt.expiration-period}") long tokenExpirationPeriod,
+                      @Value("${security.jwt.verified-cache-size:10000}") int verifiedCacheSize) {
+        this.secretKey = Keys.hmacShaKeyFor(tokenSecretKey.getBytes());
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
         this.tokenExpirationPeriod = tokenExpirationPeriod;
+        this.verifiedTokenCache = new VerifiedTokenCache(verifiedCacheSize);
     }
 
     public String generateToken(Member member) {
         return Jwts.builder()
                 .subject(member.getId().toString())
-                .claim("name", member.getName())
-                .claim("role", member.getRole().name())
-                .signWith(Keys.hmacShaKeyFor(tokenSecretKey.getBytes()))
+                .claim(NAME, member.getName())
+                .claim(ROLE, member.getRole().name())
+                .signWith(secretKey)
                 .expiration(new Date(System.currentTimeMillis() + tokenExpirationPeriod))
                 .compact();
     }
@@ -50,6 +63,25 @@ public class JwtManager {
         return cookie.get().getValue();
     }
 
+    public LoginMember resolveLoginMember(String token) {
+        long now = System.currentTimeMillis();
+        Optional<LoginMember> cachedMember = verifiedTokenCache.find(token, now);
+        if (cachedMember.isPresent()) {
+            return cachedMember.get();
+        }
+
+        Claims claims = verifyToken(token);
+        LoginMember loginMember = new LoginMember(
+                Long.parseLong(claims.getSubject()),
+                claims.get(NAME, String.class),
+                Role.getRole(claims.get(ROLE, String.class)));
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            verifiedTokenCache.put(token, loginMember, expiration.getTime());
+        }
+        return loginMember;
+    }
+
     public Claims verifyToken(String token) {
         try {
             return parseClaims(token);
@@ -63,10 +95,7 @@ public class JwtManager {
     }
 
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(Keys.hmacShaKeyFor(tokenSecretKey.getBytes()))
-                .build()
-                .parseSignedClaims(token)
+        return jwtParser.parseSignedClaims(token)
                 .getPayload();
     }
 }
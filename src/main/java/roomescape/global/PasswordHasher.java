@@ -0,0 +1,83 @@
+package roomescape.global;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.security.spec.KeySpec;
+import java.util.Base64;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PasswordHasher {
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA512";
+    private static final String PREFIX = "pbkdf2-sha512";
+    private static final String DELIMITER = "$";
+    private static final int SALT_LENGTH = 16;
+    private static final int HASH_BITS = 512;
+
+    private final int iterations;
+    private final SecureRandom random = new SecureRandom();
+
+    public PasswordHasher(@Value("${security.password.iterations:210000}") int iterations) {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("비밀번호 해시 반복 횟수는 1 이상이어야 합니다.");
+        }
+        this.iterations = iterations;
+    }
+
+    public String hash(String rawPassword) {
+        byte[] salt = new byte[SALT_LENGTH];
+        random.nextBytes(salt);
+        byte[] hash = derive(rawPassword, salt, iterations);
+        Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+        return String.join(DELIMITER, PREFIX, String.valueOf(iterations),
+                encoder.encodeToString(salt), encoder.encodeToString(hash));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (!isHashed(encodedPassword)) {
+            return MessageDigest.isEqual(
+                    rawPassword.getBytes(StandardCharsets.UTF_8),
+                    encodedPassword.getBytes(StandardCharsets.UTF_8));
+        }
+        String[] parts = encodedPassword.split("\\$");
+        if (parts.length != 4) {
+            return false;
+        }
+        try {
+            Base64.Decoder decoder = Base64.getDecoder();
+            byte[] salt = decoder.decode(parts[2]);
+            byte[] expected = decoder.decode(parts[3]);
+            byte[] actual = derive(rawPassword, salt, Integer.parseInt(parts[1]));
+            return MessageDigest.isEqual(expected, actual);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    public boolean needsRehash(String encodedPassword) {
+        if (!isHashed(encodedPassword)) {
+            return true;
+        }
+        String[] parts = encodedPassword.split("\\$");
+        return parts.length != 4 || !parts[1].equals(String.valueOf(iterations));
+    }
+
+    private static boolean isHashed(String encodedPassword) {
+        return encodedPassword.startsWith(PREFIX + DELIMITER);
+    }
+
+    private static byte[] derive(String rawPassword, byte[] salt, int iterations) {
+        KeySpec spec = new PBEKeySpec(rawPassword.toCharArray(), salt, iterations, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
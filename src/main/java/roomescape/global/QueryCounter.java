@@ -0,0 +1,54 @@
+package roomescape.global;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+public class QueryCounter {
+
+    private static final ThreadLocal<QueryCounter> CURRENT = new ThreadLocal<>();
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, Integer> shapeCounts = new LinkedHashMap<>();
+    private int total;
+
+    public static void begin() {
+        CURRENT.set(new QueryCounter());
+    }
+
+    public static QueryCounter end() {
+        QueryCounter counter = CURRENT.get();
+        CURRENT.remove();
+        return counter;
+    }
+
+    public static void record(String sql) {
+        QueryCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.total++;
+            counter.shapeCounts.merge(shapeOf(sql), 1, Integer::sum);
+        }
+    }
+
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public Map<String, Integer> findRepeatedShapes(int maxRepeated) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        shapeCounts.forEach((shape, count) -> {
+            if (count > maxRepeated) {
+                repeated.put(shape, count);
+            }
+        });
+        return repeated;
+    }
+}
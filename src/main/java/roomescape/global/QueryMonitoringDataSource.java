@@ -0,0 +1,131 @@
+package roomescape.global;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+public class QueryMonitoringDataSource extends DelegatingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryMonitoringDataSource.class);
+
+    private final long slowThresholdNanos;
+
+    public QueryMonitoringDataSource(DataSource targetDataSource, long slowThresholdMillis) {
+        super(targetDataSource);
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return monitor(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return monitor(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection monitor(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof Statement statement) {
+                        String sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+                        return monitor(statement, sql);
+                    }
+                    return result;
+                });
+    }
+
+    private Statement monitor(Statement statement, String preparedSql) {
+        Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        return (Statement) Proxy.newProxyInstance(
+                Statement.class.getClassLoader(),
+                new Class<?>[]{type},
+                new StatementHandler(statement, preparedSql));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static String describe(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof CharSequence text) {
+            return "String(" + text.length() + ")";
+        }
+        if (value instanceof byte[] bytes) {
+            return "byte[" + bytes.length + "]";
+        }
+        return value.getClass().getSimpleName();
+    }
+
+    private class StatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+        private final String preparedSql;
+        private final Map<Integer, Object> parameters = new TreeMap<>();
+
+        StatementHandler(Statement statement, String preparedSql) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            }
+            if (!name.startsWith("execute")) {
+                return QueryMonitoringDataSource.invoke(statement, method, args);
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String query ? query : preparedSql;
+            long start = System.nanoTime();
+            try {
+                return QueryMonitoringDataSource.invoke(statement, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                if (sql != null) {
+                    QueryCounter.record(sql);
+                    if (elapsed >= slowThresholdNanos) {
+                        log.warn("느린 쿼리 {}ms: {} 파라미터={}",
+                                TimeUnit.NANOSECONDS.toMillis(elapsed), sql.strip(), describeParameters());
+                    }
+                }
+            }
+        }
+
+        private Map<Integer, String> describeParameters() {
+            Map<Integer, String> descriptions = new TreeMap<>();
+            parameters.forEach((index, value) -> descriptions.put(index, describe(value)));
+            return descriptions;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package roomescape.global;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public class TokenBucketRateLimiter {
+
+    private static final int STRIPES = 16;
+
+    private final long refillIntervalNanos;
+    private final long burstNanos;
+    private final long sweepIntervalNanos;
+    private final LongSupplier clock;
+    private final Map<String, AtomicLong>[] stripes;
+    private final AtomicLong nextSweepAt;
+
+    public TokenBucketRateLimiter(int capacity, int refillPerMinute) {
+        this(capacity, refillPerMinute, TimeUnit.MINUTES.toNanos(1), System::nanoTime);
+    }
+
+    @SuppressWarnings("unchecked")
+    public TokenBucketRateLimiter(int capacity, int refillPerMinute, long sweepIntervalNanos, LongSupplier clock) {
+        if (capacity <= 0 || refillPerMinute <= 0) {
+            throw new IllegalArgumentException("요청 제한 용량과 충전량은 1 이상이어야 합니다.");
+        }
+        this.refillIntervalNanos = TimeUnit.MINUTES.toNanos(1) / refillPerMinute;
+        this.burstNanos = refillIntervalNanos * capacity;
+        this.sweepIntervalNanos = sweepIntervalNanos;
+        this.clock = clock;
+        this.stripes = new Map[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.nextSweepAt = new AtomicLong(clock.getAsLong() + sweepIntervalNanos);
+    }
+
+    public long tryAcquire(String key) {
+        long now = clock.getAsLong();
+        sweepIfDue(now);
+        AtomicLong bucket = stripeOf(key).computeIfAbsent(key, k -> new AtomicLong(now - burstNanos));
+        while (true) {
+            long emptyAt = bucket.get();
+            long start = Math.max(emptyAt, now - burstNanos);
+            long next = start + refillIntervalNanos;
+            if (next > now) {
+                return next - now;
+            }
+            if (bucket.compareAndSet(emptyAt, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public static long retryAfterSeconds(long waitNanos) {
+        long second = TimeUnit.SECONDS.toNanos(1);
+        return Math.max(1, (waitNanos + second - 1) / second);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Map<String, AtomicLong> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private void sweepIfDue(long now) {
+        long sweepAt = nextSweepAt.get();
+        if (now - sweepAt < 0 || !nextSweepAt.compareAndSet(sweepAt, now + sweepIntervalNanos)) {
+            return;
+        }
+        long fullBefore = now - burstNanos;
+        for (Map<String, AtomicLong> stripe : stripes) {
+            stripe.values().removeIf(bucket -> bucket.get() <= fullBefore);
+        }
+    }
+
+    private Map<String, AtomicLong> stripeOf(String key) {
+        return stripes[Math.floorMod(key.hashCode(), STRIPES)];
+    }
+}
@@ -0,0 +1,102 @@
+package roomescape.global;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import roomescape.controller.helper.LoginMember;
+
+public class VerifiedTokenCache {
+
+    private static final int EVICTION_BATCH_DIVISOR = 10;
+
+    private final int maxSize;
+    private final int trimmedSize;
+    private final Map<String, VerifiedToken> tokens = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    public VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.trimmedSize = maxSize - maxSize / EVICTION_BATCH_DIVISOR;
+    }
+
+    public Optional<LoginMember> find(String token, long now) {
+        String key = hash(token);
+        VerifiedToken verifiedToken = tokens.get(key);
+        if (verifiedToken == null) {
+            return Optional.empty();
+        }
+        if (verifiedToken.isExpired(now)) {
+            tokens.remove(key, verifiedToken);
+            return Optional.empty();
+        }
+        verifiedToken.touch();
+        return Optional.of(verifiedToken.loginMember);
+    }
+
+    public void put(String token, LoginMember loginMember, long expiresAt) {
+        tokens.put(hash(token), new VerifiedToken(loginMember, expiresAt));
+        if (tokens.size() > maxSize) {
+            evict();
+        }
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            tokens.entrySet().removeIf(entry -> entry.getValue().isExpired(now));
+            int excess = tokens.size() - trimmedSize;
+            if (excess <= 0) {
+                return;
+            }
+            tokens.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccess))
+                    .limit(excess)
+                    .toList()
+                    .forEach(entry -> tokens.remove(entry.getKey(), entry.getValue()));
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static class VerifiedToken {
+
+        private final LoginMember loginMember;
+        private final long expiresAt;
+        private volatile long lastAccess = System.nanoTime();
+
+        VerifiedToken(LoginMember loginMember, long expiresAt) {
+            this.loginMember = loginMember;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+
+        void touch() {
+            lastAccess = System.nanoTime();
+        }
+    }
+}
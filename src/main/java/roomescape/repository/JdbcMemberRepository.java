@@ -1,8 +1,12 @@
 package roomescape.repository;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import javax.sql.DataSource;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
@@ -33,16 +37,13 @@ public class JdbcMemberRepository {
                 .addValue("email", member.getEmail())
                 .addValue("password", member.getPassword())
                 .addValue("role", member.getRole().name());
-        long memberId = jdbcInsert.executeAndReturnKey(parameterSource).longValue();
-        return findMemberById(memberId).get();
-    }
-
-    public boolean isMemberExistsByEmail(String email) {
-        String sql = "SELECT 1 FROM member WHERE email = :email";
-        SqlParameterSource paramMap = new MapSqlParameterSource()
-                .addValue("email", email);
-        List<Integer> result = jdbcTemplate.queryForList(sql, paramMap, Integer.class);
-        return !result.isEmpty();
+        try {
+            long memberId = jdbcInsert.executeAndReturnKey(parameterSource).longValue();
+            return new Member(memberId, member.getEmail(), member.getPassword(), member.getName(),
+                    member.getRole().name());
+        } catch (DuplicateKeyException e) {
+            throw new IllegalArgumentException("이미 가입되어 있는 이메일 주소입니다.");
+        }
     }
 
     public Optional<Member> findMemberByEmail(String email) {
@@ -59,6 +60,31 @@ public class JdbcMemberRepository {
         return Optional.ofNullable(members.isEmpty() ? null : members.get(0));
     }
 
+    public Optional<String> findMemberNameById(long id) {
+        String sql = "SELECT name FROM member WHERE id = :id";
+        SqlParameterSource paramMap = new MapSqlParameterSource().addValue("id", id);
+        return jdbcTemplate.queryForList(sql, paramMap, String.class)
+                .stream()
+                .findAny();
+    }
+
+    public Set<Long> findExistingMemberIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        String sql = "SELECT id FROM member WHERE id IN (:ids)";
+        SqlParameterSource paramMap = new MapSqlParameterSource().addValue("ids", ids);
+        return new HashSet<>(jdbcTemplate.queryForList(sql, paramMap, Long.class));
+    }
+
+    public void updatePassword(long id, String password) {
+        String sql = "UPDATE member SET password = :password WHERE id = :id";
+        SqlParameterSource paramMap = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("password", password);
+        jdbcTemplate.update(sql, paramMap);
+    }
+
     public List<MemberInfo> findAllMemberNames() {
         String sql = "SELECT id, name FROM member";
         return jdbcTemplate.query(sql, (rs, rowNum) -> {
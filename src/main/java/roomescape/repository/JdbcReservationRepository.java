@@ -1,25 +1,38 @@
 package roomescape.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import javax.sql.DataSource;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationSlot;
+import roomescape.domain.reservation.ReservationSummary;
 import roomescape.service.dto.reservation.ReservationSearchParams;
+import roomescape.service.exception.ReservationConflictException;
 
 @Repository
 public class JdbcReservationRepository {
 
-    private static final String RESERVATION_TABLE = """
+    private static final String RESERVATION_SUMMARY = """
                     SELECT 
                     r.id AS reservation_id, r.date AS reservation_date, 
-                    m.id AS member_id, m.email AS member_email, m.password AS member_password, m.name AS member_name,
-                    m.role AS member_role, th.id AS theme_id, th.name AS theme_name, th.description AS theme_description,
-                    th.thumbnail AS theme_thumbnail, t.id AS time_id, t.start_at AS time_value 
+                    m.id AS member_id, m.name AS member_name, th.id AS theme_id, th.name AS theme_name,
+                    th.description AS theme_description, th.thumbnail AS theme_thumbnail,
+                    t.id AS time_id, t.start_at AS time_value 
                     FROM reservation AS r 
                     INNER JOIN member AS m ON m.id = r.member_id
                     INNER JOIN reservation_time AS t ON r.time_id = t.id
@@ -27,50 +40,127 @@ public class JdbcReservationRepository {
                     WHERE 1=1 
             """;
 
+    private static final RowMapper<ReservationSlot> SLOT_ROW_MAPPER = (resultSet, rowNum) ->
+            new ReservationSlot(
+                    resultSet.getLong("theme_id"),
+                    resultSet.getObject("date", LocalDate.class),
+                    resultSet.getLong("time_id"));
+
+    private static final int EXPORT_PAGE_SIZE = 500;
+
     private final NamedParameterJdbcTemplate jdbcTemplate;
     private final SimpleJdbcInsert jdbcInsert;
-    private final RowMapper<Reservation> rowMapper;
+    private final RowMapper<ReservationSummary> rowMapper;
+    private final ReservationSearchQueryCache searchQueryCache;
 
-    public JdbcReservationRepository(DataSource dataSource, RowMapper<Reservation> rowMapper) {
+    public JdbcReservationRepository(DataSource dataSource, RowMapper<ReservationSummary> rowMapper) {
         this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
         this.jdbcInsert = new SimpleJdbcInsert(dataSource)
                 .withTableName("reservation")
                 .usingGeneratedKeyColumns("id");
         this.rowMapper = rowMapper;
+        this.searchQueryCache = new ReservationSearchQueryCache(RESERVATION_SUMMARY);
     }
 
-    public List<Reservation> findReservationsWithParams(ReservationSearchParams requestDto) {
-        String sql = RESERVATION_TABLE;
-        MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+    public List<ReservationSummary> findReservationsWithParams(ReservationSearchParams requestDto) {
+        return jdbcTemplate.query(searchQueryCache.pageQuery(requestDto),
+                searchQueryCache.parameters(requestDto), rowMapper);
+    }
 
-        if (requestDto.memberId() != null) {
-            sql += "AND r.member_id = :memberId ";
-            parameterSource.addValue("memberId", requestDto.memberId());
+    public void streamReservationsWithParams(ReservationSearchParams requestDto,
+                                             Consumer<ReservationSummary> consumer) {
+        ReservationSearchParams page = requestDto.withPage(null, null, EXPORT_PAGE_SIZE);
+        List<ReservationSummary> reservations = findReservationsWithParams(page);
+        while (!reservations.isEmpty()) {
+            reservations.forEach(consumer);
+            if (reservations.size() < EXPORT_PAGE_SIZE) {
+                return;
+            }
+            ReservationSummary last = reservations.get(reservations.size() - 1);
+            page = requestDto.withPage(last.getDate(), last.getId(), EXPORT_PAGE_SIZE);
+            reservations = findReservationsWithParams(page);
         }
-        if (requestDto.themeId() != null) {
-            sql += "AND r.theme_id = :themeId ";
-            parameterSource.addValue("themeId", requestDto.themeId());
+    }
+
+    public void forEachReservationSlotFrom(LocalDate fromDate, Consumer<ReservationSlot> consumer) {
+        String sql = "SELECT theme_id, date, time_id FROM reservation WHERE date >= :fromDate";
+        SqlParameterSource parameterSource = new MapSqlParameterSource()
+                .addValue("fromDate", fromDate);
+        jdbcTemplate.query(sql, parameterSource,
+                (RowCallbackHandler) resultSet -> consumer.accept(SLOT_ROW_MAPPER.mapRow(resultSet, resultSet.getRow())));
+    }
+
+    public void forEachReservationSlotBetween(Collection<Long> themeIds, LocalDate startDate, LocalDate endDate,
+                                              Consumer<ReservationSlot> consumer) {
+        if (themeIds.isEmpty()) {
+            return;
         }
-        if (requestDto.dateFrom() != null) {
-            sql += "AND r.date >= :dateFrom ";
-            parameterSource.addValue("dateFrom", requestDto.dateFrom());
+        String sql = """
+                SELECT theme_id, date, time_id FROM reservation
+                WHERE theme_id IN (:themeIds)
+                AND date BETWEEN :startDate AND :endDate
+                """;
+        SqlParameterSource parameterSource = new MapSqlParameterSource()
+                .addValue("themeIds", themeIds)
+                .addValue("startDate", startDate)
+                .addValue("endDate", endDate);
+        jdbcTemplate.query(sql, parameterSource,
+                (RowCallbackHandler) resultSet -> consumer.accept(SLOT_ROW_MAPPER.mapRow(resultSet, resultSet.getRow())));
+    }
+
+    public long countReservationsWithParams(ReservationSearchParams requestDto) {
+        return jdbcTemplate.queryForObject(searchQueryCache.countQuery(requestDto),
+                searchQueryCache.parameters(requestDto), Long.class);
+    }
+
+    public ReservationSearchQueryCache getSearchQueryCache() {
+        return searchQueryCache;
+    }
+
+    public Reservation insertReservation(Reservation reservation) {
+        SqlParameterSource parameterSource = toInsertParameterSource(reservation);
+        try {
+            long savedId = jdbcInsert.executeAndReturnKey(parameterSource).longValue();
+            return reservation.withId(savedId);
+        } catch (DuplicateKeyException e) {
+            throw new ReservationConflictException("해당 테마는 같은 시간에 이미 예약이 존재합니다.");
         }
-        if (requestDto.dateTo() != null) {
-            sql += "AND r.date <= :dateTo ";
-            parameterSource.addValue("dateTo", requestDto.dateTo());
+    }
+
+    public List<Long> insertReservations(List<Reservation> reservations) {
+        if (reservations.isEmpty()) {
+            return List.of();
+        }
+        String sql = """
+                INSERT INTO reservation (member_id, theme_id, date, time_id)
+                VALUES (:member_id, :theme_id, :date, :time_id)
+                """;
+        SqlParameterSource[] batchArgs = reservations.stream()
+                .map(this::toInsertParameterSource)
+                .toArray(SqlParameterSource[]::new);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        try {
+            jdbcTemplate.batchUpdate(sql, batchArgs, keyHolder, new String[]{"id"});
+        } catch (DuplicateKeyException e) {
+            throw new ReservationConflictException("동시에 생성된 예약과 충돌했습니다. 다시 시도해주세요.");
         }
-        sql += ';';
-        return jdbcTemplate.query(sql, parameterSource, rowMapper);
+        return keyHolder.getKeyList().stream()
+                .map(key -> ((Number) key.get("id")).longValue())
+                .toList();
     }
 
-    public Reservation insertReservation(Reservation reservation) {
+    public Set<ReservationSlot> findBookedSlots(Collection<ReservationSlot> slots) {
+        if (slots.isEmpty()) {
+            return Set.of();
+        }
+        String sql = "SELECT theme_id, date, time_id FROM reservation WHERE (theme_id, date, time_id) IN (:slots)";
+        List<Object[]> slotValues = slots.stream()
+                .map(slot -> new Object[]{slot.getThemeId(), slot.getDate(), slot.getTimeId()})
+                .toList();
         SqlParameterSource parameterSource = new MapSqlParameterSource()
-                .addValue("member_id", reservation.getMember().getId())
-                .addValue("theme_id", reservation.getThemeId())
-                .addValue("date", reservation.getDate())
-                .addValue("time_id", reservation.getTimeId());
-        long savedId = jdbcInsert.executeAndReturnKey(parameterSource).longValue();
-        return findReservationById(savedId);
+                .addValue("slots", slotValues);
+        List<ReservationSlot> bookedSlots = jdbcTemplate.query(sql, parameterSource, SLOT_ROW_MAPPER);
+        return new HashSet<>(bookedSlots);
     }
 
     public void deleteReservationById(long id) {
@@ -104,20 +194,19 @@ public class JdbcReservationRepository {
         return !result.isEmpty();
     }
 
-    public boolean isReservationExistsByDateAndTimeIdAndThemeId(Reservation reservation) {
-        String sql = "SELECT 1 FROM reservation WHERE date = :date AND time_id = :timeId AND theme_id = :themeId";
+    public Optional<ReservationSlot> findReservationSlotById(long id) {
+        String sql = "SELECT theme_id, date, time_id FROM reservation WHERE id = :id";
         SqlParameterSource parameterSource = new MapSqlParameterSource()
-                .addValue("date", reservation.getDate())
-                .addValue("timeId", reservation.getTimeId())
-                .addValue("themeId", reservation.getThemeId());
-        List<Integer> result = jdbcTemplate.queryForList(sql, parameterSource, Integer.class);
-        return !result.isEmpty();
+                .addValue("id", id);
+        List<ReservationSlot> slots = jdbcTemplate.query(sql, parameterSource, SLOT_ROW_MAPPER);
+        return slots.stream().findAny();
     }
 
-    private Reservation findReservationById(long savedId) {
-        String sql = RESERVATION_TABLE;
-        sql += "AND r.id = :savedId;";
-        SqlParameterSource paramMap = new MapSqlParameterSource().addValue("savedId", savedId);
-        return jdbcTemplate.query(sql, paramMap, rowMapper).get(0);
+    private SqlParameterSource toInsertParameterSource(Reservation reservation) {
+        return new MapSqlParameterSource()
+                .addValue("member_id", reservation.getMember().getId())
+                .addValue("theme_id", reservation.getThemeId())
+                .addValue("date", reservation.getDate())
+                .addValue("time_id", reservation.getTimeId());
     }
 }
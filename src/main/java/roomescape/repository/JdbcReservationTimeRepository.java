@@ -1,8 +1,10 @@
 package roomescape.repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import javax.sql.DataSource;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
@@ -31,11 +33,15 @@ public class JdbcReservationTimeRepository {
         return jdbcTemplate.query(sql, rowMapper);
     }
 
-    public Optional<ReservationTime> insertReservationTime(ReservationTime reservationTime) {
+    public ReservationTime insertReservationTime(ReservationTime reservationTime) {
         SqlParameterSource parameterSource = new MapSqlParameterSource()
                 .addValue("start_at", reservationTime.getStartAt());
-        long savedId = jdbcInsert.executeAndReturnKey(parameterSource).longValue();
-        return findReservationTimeById(savedId);
+        try {
+            long savedId = jdbcInsert.executeAndReturnKey(parameterSource).longValue();
+            return new ReservationTime(savedId, reservationTime.getStartAt());
+        } catch (DuplicateKeyException e) {
+            throw new IllegalArgumentException("중복된 시간을 입력할 수 없습니다.");
+        }
     }
 
     public void deleteReservationTimeById(long id) {
@@ -45,14 +51,6 @@ public class JdbcReservationTimeRepository {
         jdbcTemplate.update(sql, parameterSource);
     }
 
-    public boolean isTimeExistsByStartTime(String startAt) {
-        String sql = "SELECT 1 FROM reservation_time WHERE start_at = :startAt";
-        SqlParameterSource parameterSource = new MapSqlParameterSource()
-                .addValue("startAt", startAt);
-        List<Integer> result = jdbcTemplate.queryForList(sql, parameterSource, Integer.class);
-        return !result.isEmpty();
-    }
-
     public boolean isTimeExistsByTimeId(long timeId) {
         String sql = "SELECT 1 FROM reservation_time WHERE id = :timeId";
         SqlParameterSource parameterSource = new MapSqlParameterSource()
@@ -74,16 +72,15 @@ public class JdbcReservationTimeRepository {
         return Optional.ofNullable(times.isEmpty() ? null : times.get(0));
     }
 
-    public List<ReservationTime> findReservedTimeByThemeAndDate(String date, long themeId) {
+    public List<ReservationTime> findReservedTimeByThemeAndDate(LocalDate date, long themeId) {
         String sql = """
                 SELECT 
-                t.id AS time_id, 
-                t.start_at AS time_value
+                t.id, 
+                t.start_at
                 FROM reservation AS r 
                 INNER JOIN reservation_time AS t ON r.time_id = t.id 
-                INNER JOIN theme AS th ON r.theme_id = th.id
-                WHERE r.date = :date
-                AND r.theme_id = :themeId
+                WHERE r.theme_id = :themeId
+                AND r.date = :date
                 """;
 
         SqlParameterSource paramMap = new MapSqlParameterSource()
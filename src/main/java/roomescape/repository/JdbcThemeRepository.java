@@ -1,6 +1,10 @@
 package roomescape.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import javax.sql.DataSource;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -37,7 +41,7 @@ public class JdbcThemeRepository {
                 .addValue("thumbnail", theme.getThumbnail());
 
         long savedId = jdbcInsert.executeAndReturnKey(parameterSource).longValue();
-        return findThemeById(savedId);
+        return new Theme(savedId, theme.getName(), theme.getDescription(), theme.getThumbnail());
     }
 
     public void deleteThemeById(long id) {
@@ -55,15 +59,35 @@ public class JdbcThemeRepository {
         return !result.isEmpty();
     }
 
-    public List<Theme> findTopThemesDescendingByReservationCount(String startDate, String endDate,
+    public Set<Long> findExistingThemeIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        String sql = "SELECT id FROM theme WHERE id IN (:ids)";
+        SqlParameterSource parameterSource = new MapSqlParameterSource()
+                .addValue("ids", ids);
+        return new HashSet<>(jdbcTemplate.queryForList(sql, parameterSource, Long.class));
+    }
+
+    public List<Theme> findThemesByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String sql = "SELECT * FROM theme WHERE id IN (:ids)";
+        SqlParameterSource parameterSource = new MapSqlParameterSource()
+                .addValue("ids", ids);
+        return jdbcTemplate.query(sql, parameterSource, rowMapper);
+    }
+
+    public List<Theme> findTopThemesDescendingByReservationCount(LocalDate startDate, LocalDate endDate,
                                                                  int themeCount) {
         String sql = """
                     SELECT th.id, th.name, th.description, th.thumbnail
                     FROM theme AS th
-                    INNER JOIN reservation AS r ON th.id = r.theme_id
-                    WHERE r.date BETWEEN :startDate AND :endDate
+                    INNER JOIN theme_daily_stats AS s ON th.id = s.theme_id
+                    WHERE s.date BETWEEN :startDate AND :endDate
                     GROUP BY th.id
-                    ORDER BY COUNT(th.id) DESC
+                    ORDER BY SUM(s.booked_count) DESC, th.id
                     LIMIT :themeCount;
                 """;
 
@@ -73,14 +97,4 @@ public class JdbcThemeRepository {
                 .addValue("themeCount", themeCount);
         return jdbcTemplate.query(sql, paramMap, rowMapper);
     }
-
-    private Theme findThemeById(long savedId) {
-        String sql = """
-                SELECT * 
-                FROM theme AS t 
-                WHERE t.id = :savedId;
-                """;
-        SqlParameterSource paramMap = new MapSqlParameterSource().addValue("savedId", savedId);
-        return jdbcTemplate.query(sql, paramMap, rowMapper).get(0);
-    }
 }
@@ -0,0 +1,100 @@
+package roomescape.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import roomescape.domain.reservation.ThemeBookedCount;
+
+@Repository
+public class JdbcThemeStatsRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public JdbcThemeStatsRepository(DataSource dataSource) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    public void increaseBookedCount(long themeId, LocalDate date, int amount) {
+        String updateSql = """
+                UPDATE theme_daily_stats SET booked_count = booked_count + :amount
+                WHERE theme_id = :themeId AND date = :date
+                """;
+        String insertSql = """
+                INSERT INTO theme_daily_stats (theme_id, date, booked_count)
+                VALUES (:themeId, :date, :amount)
+                """;
+        SqlParameterSource parameterSource = new MapSqlParameterSource()
+                .addValue("themeId", themeId)
+                .addValue("date", date)
+                .addValue("amount", amount);
+
+        if (jdbcTemplate.update(updateSql, parameterSource) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(insertSql, parameterSource);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(updateSql, parameterSource);
+        }
+    }
+
+    public void decreaseBookedCount(long themeId, LocalDate date) {
+        String updateSql = """
+                UPDATE theme_daily_stats SET booked_count = booked_count - 1
+                WHERE theme_id = :themeId AND date = :date
+                """;
+        String deleteSql = """
+                DELETE FROM theme_daily_stats
+                WHERE theme_id = :themeId AND date = :date AND booked_count <= 0
+                """;
+        SqlParameterSource parameterSource = new MapSqlParameterSource()
+                .addValue("themeId", themeId)
+                .addValue("date", date);
+
+        jdbcTemplate.update(updateSql, parameterSource);
+        jdbcTemplate.update(deleteSql, parameterSource);
+    }
+
+    public int findBookedCount(long themeId, LocalDate date) {
+        String sql = "SELECT booked_count FROM theme_daily_stats WHERE theme_id = :themeId AND date = :date";
+        SqlParameterSource parameterSource = new MapSqlParameterSource()
+                .addValue("themeId", themeId)
+                .addValue("date", date);
+        return jdbcTemplate.queryForList(sql, parameterSource, Integer.class)
+                .stream()
+                .findAny()
+                .orElse(0);
+    }
+
+    public List<ThemeBookedCount> findBookedCounts(LocalDate startDate, LocalDate endDate) {
+        String sql = """
+                SELECT theme_id, date, booked_count FROM theme_daily_stats
+                WHERE date BETWEEN :startDate AND :endDate
+                """;
+        SqlParameterSource parameterSource = new MapSqlParameterSource()
+                .addValue("startDate", startDate)
+                .addValue("endDate", endDate);
+        return jdbcTemplate.query(sql, parameterSource, (resultSet, rowNum) ->
+                new ThemeBookedCount(
+                        resultSet.getLong("theme_id"),
+                        resultSet.getObject("date", LocalDate.class),
+                        resultSet.getLong("booked_count")));
+    }
+
+    public int rebuildThemeDailyStats() {
+        String deleteSql = "DELETE FROM theme_daily_stats";
+        String insertSql = """
+                INSERT INTO theme_daily_stats (theme_id, date, booked_count)
+                SELECT theme_id, date, COUNT(*)
+                FROM reservation
+                GROUP BY theme_id, date
+                """;
+        jdbcTemplate.getJdbcTemplate().update(deleteSql);
+        return jdbcTemplate.getJdbcTemplate().update(insertSql);
+    }
+}
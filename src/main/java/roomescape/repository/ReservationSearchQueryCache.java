@@ -0,0 +1,123 @@
+package roomescape.repository;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import roomescape.service.dto.reservation.ReservationSearchParams;
+
+public class ReservationSearchQueryCache {
+
+    private static final String COUNT_QUERY = "SELECT COUNT(*) FROM reservation AS r WHERE 1=1 ";
+    private static final String ORDER_BY = "ORDER BY r.date, r.id";
+
+    private static final int MEMBER = 1;
+    private static final int THEME = 1 << 1;
+    private static final int DATE_FROM = 1 << 2;
+    private static final int DATE_TO = 1 << 3;
+    private static final int CURSOR = 1 << 4;
+    private static final int LIMIT = 1 << 5;
+    private static final int SHAPE_COUNT = 1 << 6;
+
+    private final String selectQuery;
+    private final AtomicReferenceArray<String> pageQueries = new AtomicReferenceArray<>(SHAPE_COUNT);
+    private final AtomicReferenceArray<String> countQueries = new AtomicReferenceArray<>(SHAPE_COUNT);
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public ReservationSearchQueryCache(String selectQuery) {
+        this.selectQuery = selectQuery;
+    }
+
+    public String pageQuery(ReservationSearchParams params) {
+        int shape = shapeOf(params);
+        return lookup(pageQueries, shape,
+                () -> selectQuery + buildCondition(shape) + ORDER_BY + buildLimit(shape) + ';');
+    }
+
+    public String countQuery(ReservationSearchParams params) {
+        int shape = shapeOf(params) & ~(CURSOR | LIMIT);
+        return lookup(countQueries, shape, () -> COUNT_QUERY + buildCondition(shape) + ';');
+    }
+
+    public MapSqlParameterSource parameters(ReservationSearchParams params) {
+        return new MapSqlParameterSource()
+                .addValue("memberId", params.memberId())
+                .addValue("themeId", params.themeId())
+                .addValue("dateFrom", params.dateFrom())
+                .addValue("dateTo", params.dateTo())
+                .addValue("afterDate", params.afterDate())
+                .addValue("afterId", params.afterId())
+                .addValue("limit", params.limit());
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    private String lookup(AtomicReferenceArray<String> queries, int shape, Supplier<String> builder) {
+        String query = queries.get(shape);
+        if (query != null) {
+            hitCount.increment();
+            return query;
+        }
+        missCount.increment();
+        query = builder.get();
+        queries.compareAndSet(shape, null, query);
+        return queries.get(shape);
+    }
+
+    private static int shapeOf(ReservationSearchParams params) {
+        int shape = 0;
+        if (params.memberId() != null) {
+            shape |= MEMBER;
+        }
+        if (params.themeId() != null) {
+            shape |= THEME;
+        }
+        if (params.dateFrom() != null) {
+            shape |= DATE_FROM;
+        }
+        if (params.dateTo() != null) {
+            shape |= DATE_TO;
+        }
+        if (params.hasCursor()) {
+            shape |= CURSOR;
+        }
+        if (params.hasLimit()) {
+            shape |= LIMIT;
+        }
+        return shape;
+    }
+
+    private static String buildCondition(int shape) {
+        StringBuilder condition = new StringBuilder();
+        if ((shape & MEMBER) != 0) {
+            condition.append("AND r.member_id = :memberId ");
+        }
+        if ((shape & THEME) != 0) {
+            condition.append("AND r.theme_id = :themeId ");
+        }
+        if ((shape & DATE_FROM) != 0) {
+            condition.append("AND r.date >= :dateFrom ");
+        }
+        if ((shape & DATE_TO) != 0) {
+            condition.append("AND r.date <= :dateTo ");
+        }
+        if ((shape & CURSOR) != 0) {
+            condition.append("AND (r.date > :afterDate OR (r.date = :afterDate AND r.id > :afterId)) ");
+        }
+        return condition.toString();
+    }
+
+    private static String buildLimit(int shape) {
+        if ((shape & LIMIT) != 0) {
+            return " LIMIT :limit";
+        }
+        return "";
+    }
+}
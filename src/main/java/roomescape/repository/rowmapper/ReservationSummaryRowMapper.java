@@ -0,0 +1,33 @@
+package roomescape.repository.rowmapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import roomescape.domain.reservation.ReservationSummary;
+import roomescape.domain.reservation.ReservationTime;
+import roomescape.domain.reservation.Theme;
+
+@Component
+public class ReservationSummaryRowMapper implements RowMapper<ReservationSummary> {
+
+    @Override
+    public ReservationSummary mapRow(ResultSet resultSet, int rowNum) throws SQLException {
+        return new ReservationSummary(
+                resultSet.getLong("reservation_id"),
+                resultSet.getLong("member_id"),
+                resultSet.getString("member_name"),
+                new Theme(
+                        resultSet.getLong("theme_id"),
+                        resultSet.getString("theme_name"),
+                        resultSet.getString("theme_description"),
+                        resultSet.getString("theme_thumbnail")),
+                resultSet.getObject("reservation_date", LocalDate.class),
+                new ReservationTime(
+                        resultSet.getLong("time_id"),
+                        resultSet.getObject("time_value", LocalTime.class))
+        );
+    }
+}
@@ -2,6 +2,7 @@ package roomescape.repository.rowmapper;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.LocalTime;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
 import roomescape.domain.reservation.ReservationTime;
@@ -13,7 +14,7 @@ public class ReservationTimeRowMapper implements RowMapper<ReservationTime> {
     public ReservationTime mapRow(ResultSet resultSet, int rowNum) throws SQLException {
         return new ReservationTime(
                 resultSet.getLong("id"),
-                resultSet.getString("start_at")
+                resultSet.getObject("start_at", LocalTime.class)
         );
     }
 }
@@ -0,0 +1,72 @@
+package roomescape.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+import roomescape.repository.JdbcReservationTimeRepository;
+import roomescape.repository.JdbcThemeRepository;
+import roomescape.service.dto.reservation.ReservationTimeResponse;
+import roomescape.service.dto.theme.ThemeResponse;
+
+@Component
+public class CatalogCache {
+
+    private final VersionedJsonCache<List<ThemeResponse>> themes;
+    private final VersionedJsonCache<List<ReservationTimeResponse>> times;
+
+    public CatalogCache(ObjectMapper objectMapper, JdbcThemeRepository themeRepository,
+                        JdbcReservationTimeRepository reservationTimeRepository) {
+        String generation = Long.toHexString(System.currentTimeMillis());
+        this.themes = new VersionedJsonCache<>("themes", generation, objectMapper, () ->
+                themeRepository.findAllThemes()
+                        .stream()
+                        .map(ThemeResponse::new)
+                        .toList());
+        this.times = new VersionedJsonCache<>("times", generation, objectMapper, () ->
+                reservationTimeRepository.findAllReservationTimes()
+                        .stream()
+                        .map(ReservationTimeResponse::new)
+                        .toList());
+    }
+
+    public JsonSnapshot getThemes() {
+        return themes.get();
+    }
+
+    public Optional<JsonSnapshot> findLoadedThemes() {
+        return themes.findLoaded();
+    }
+
+    public List<ThemeResponse> findAllThemes() {
+        return themes.getValue();
+    }
+
+    public Optional<ThemeResponse> findTheme(long themeId) {
+        return themes.getValue()
+                .stream()
+                .filter(theme -> theme.getId() == themeId)
+                .findAny();
+    }
+
+    public JsonSnapshot getTimes() {
+        return times.get();
+    }
+
+    public Optional<JsonSnapshot> findLoadedTimes() {
+        return times.findLoaded();
+    }
+
+    public void invalidateThemes() {
+        themes.invalidate();
+    }
+
+    public void invalidateTimes() {
+        times.invalidate();
+    }
+
+    public void invalidateAll() {
+        invalidateThemes();
+        invalidateTimes();
+    }
+}
@@ -0,0 +1,26 @@
+package roomescape.service;
+
+public class JsonSnapshot {
+
+    private final long version;
+    private final String eTag;
+    private final byte[] body;
+
+    public JsonSnapshot(long version, String eTag, byte[] body) {
+        this.version = version;
+        this.eTag = eTag;
+        this.body = body;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+}
@@ -0,0 +1,106 @@
+package roomescape.service;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import roomescape.domain.member.Member;
+
+@Component
+public class MemberEmailCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final long negativeTtlMillis;
+    private final Map<String, CachedMember> members;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private long invalidationCount;
+
+    public MemberEmailCache(@Value("${member.cache.max-size:10000}") int maxSize,
+                            @Value("${member.cache.ttl:300000}") long ttlMillis,
+                            @Value("${member.cache.negative-ttl:10000}") long negativeTtlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.negativeTtlMillis = negativeTtlMillis;
+        this.members = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedMember> eldest) {
+                return size() > MemberEmailCache.this.maxSize;
+            }
+        };
+    }
+
+    public static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public Optional<Member> findMember(String email, Function<String, Optional<Member>> loader) {
+        String key = normalize(email);
+        long now = System.currentTimeMillis();
+        long observedInvalidationCount;
+        synchronized (members) {
+            CachedMember cachedMember = members.get(key);
+            if (cachedMember != null && !cachedMember.isExpired(now)) {
+                hitCount.increment();
+                return Optional.ofNullable(cachedMember.member);
+            }
+            observedInvalidationCount = invalidationCount;
+        }
+
+        missCount.increment();
+        Optional<Member> member = loader.apply(key);
+        long ttl = member.isPresent() ? ttlMillis : negativeTtlMillis;
+        synchronized (members) {
+            if (invalidationCount == observedInvalidationCount) {
+                members.put(key, new CachedMember(member.orElse(null), now + ttl));
+            }
+        }
+        return member;
+    }
+
+    public void invalidate(String email) {
+        synchronized (members) {
+            members.remove(normalize(email));
+            invalidationCount++;
+        }
+    }
+
+    public void clear() {
+        synchronized (members) {
+            members.clear();
+            invalidationCount++;
+        }
+    }
+
+    public double getHitRatio() {
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    public int size() {
+        synchronized (members) {
+            return members.size();
+        }
+    }
+
+    private static class CachedMember {
+
+        private final Member member;
+        private final long expiresAt;
+
+        CachedMember(Member member, long expiresAt) {
+            this.member = member;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -1,46 +1,74 @@
 package roomescape.service;
 
 import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import roomescape.domain.member.Member;
-import roomescape.domain.member.MemberPassword;
 import roomescape.global.JwtManager;
+import roomescape.global.PasswordHasher;
+import roomescape.global.PasswordHashingExecutor;
 import roomescape.repository.JdbcMemberRepository;
 import roomescape.service.dto.member.MemberCreateRequest;
 import roomescape.service.dto.member.MemberLoginRequest;
 import roomescape.service.dto.member.MemberResponse;
+import roomescape.service.exception.PasswordHashingBusyException;
 import roomescape.service.exception.UnauthorizedEmailException;
 import roomescape.service.exception.UnauthorizedPasswordException;
 
 @Service
 public class MemberService {
 
+    private static final Logger log = LoggerFactory.getLogger(MemberService.class);
+
     private final JdbcMemberRepository memberRepository;
     private final JwtManager jwtManager;
+    private final MemberEmailCache memberEmailCache;
+    private final PasswordHasher passwordHasher;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
-    public MemberService(JdbcMemberRepository memberRepository, JwtManager jwtManager) {
+    public MemberService(JdbcMemberRepository memberRepository, JwtManager jwtManager,
+                         MemberEmailCache memberEmailCache, PasswordHasher passwordHasher,
+                         PasswordHashingExecutor passwordHashingExecutor) {
         this.memberRepository = memberRepository;
         this.jwtManager = jwtManager;
+        this.memberEmailCache = memberEmailCache;
+        this.passwordHasher = passwordHasher;
+        this.passwordHashingExecutor = passwordHashingExecutor;
     }
 
     public void signup(MemberCreateRequest request) {
-        if (memberRepository.isMemberExistsByEmail(request.getEmail())) {
-            throw new IllegalArgumentException("이미 가입되어 있는 이메일 주소입니다.");
-        }
-        memberRepository.insertMember(request.toMember());
+        String email = MemberEmailCache.normalize(request.getEmail());
+        String password = passwordHashingExecutor.execute(() -> passwordHasher.hash(request.getPassword()));
+        memberRepository.insertMember(new Member(null, email, password, request.getName()));
+        memberEmailCache.invalidate(email);
     }
 
     public String login(MemberLoginRequest request) {
-        Member member = memberRepository.findMemberByEmail(request.getEmail())
+        Member member = memberEmailCache.findMember(request.getEmail(), memberRepository::findMemberByEmail)
                 .orElseThrow(() -> new UnauthorizedEmailException("이메일이 존재하지 않습니다."));
 
-        MemberPassword requestPassword = new MemberPassword(request.getPassword());
-        if (member.isMismatchedPassword(requestPassword)) {
+        boolean matched = passwordHashingExecutor.execute(
+                () -> passwordHasher.matches(request.getPassword(), member.getPassword()));
+        if (!matched) {
             throw new UnauthorizedPasswordException("비밀번호가 올바르지 않습니다.");
         }
+        if (passwordHasher.needsRehash(member.getPassword())) {
+            rehashPassword(member, request.getPassword());
+        }
         return jwtManager.generateToken(member);
     }
 
+    private void rehashPassword(Member member, String rawPassword) {
+        try {
+            String password = passwordHashingExecutor.execute(() -> passwordHasher.hash(rawPassword));
+            memberRepository.updatePassword(member.getId(), password);
+            memberEmailCache.invalidate(member.getEmail());
+        } catch (PasswordHashingBusyException e) {
+            log.debug("비밀번호 해시 작업이 밀려 회원 {}의 재해시를 다음 로그인으로 미룹니다.", member.getId());
+        }
+    }
+
     public List<MemberResponse> findAllMemberNames() {
         return memberRepository.findAllMemberNames().stream()
                 .map(MemberResponse::new)
@@ -0,0 +1,185 @@
+package roomescape.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import roomescape.domain.reservation.ReservationSlot;
+import roomescape.domain.reservation.ReservationStatus;
+import roomescape.domain.reservation.ReservationTime;
+import roomescape.domain.reservation.ReservationTimeStatus;
+import roomescape.domain.reservation.ReservationTimeStatuses;
+import roomescape.repository.JdbcReservationRepository;
+import roomescape.repository.JdbcReservationTimeRepository;
+
+@Component
+public class ReservationOccupancyIndex implements SmartInitializingSingleton {
+
+    private static final BitSet EMPTY = new BitSet();
+
+    private final JdbcReservationTimeRepository reservationTimeRepository;
+    private final JdbcReservationRepository reservationRepository;
+    private final Map<Long, Integer> timeOrdinals = new ConcurrentHashMap<>();
+    private final Map<Long, BitSet> occupancy = new ConcurrentHashMap<>();
+    private final AtomicInteger nextOrdinal = new AtomicInteger();
+    private volatile List<ReservationTime> times = List.of();
+    private volatile long firstIndexedDay;
+
+    public ReservationOccupancyIndex(JdbcReservationTimeRepository reservationTimeRepository,
+                                     JdbcReservationRepository reservationRepository) {
+        this.reservationTimeRepository = reservationTimeRepository;
+        this.reservationRepository = reservationRepository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
+    public synchronized void reload() {
+        occupancy.clear();
+        timeOrdinals.clear();
+        nextOrdinal.set(0);
+        List<ReservationTime> loadedTimes = reservationTimeRepository.findAllReservationTimes();
+        loadedTimes.forEach(time -> ordinalOf(time.getId()));
+        times = List.copyOf(loadedTimes);
+        LocalDate today = LocalDate.now();
+        firstIndexedDay = today.toEpochDay();
+        reservationRepository.forEachReservationSlotFrom(today, slot -> updateSlot(slot, true));
+    }
+
+    public List<ReservationTime> getTimes() {
+        return times;
+    }
+
+    public boolean isIndexed(LocalDate date) {
+        return date.toEpochDay() >= evictPastDays();
+    }
+
+    public ReservationTimeStatuses findTimeStatuses(long themeId, LocalDate date) {
+        return findTimeStatuses(List.of(themeId), date, date, times)
+                .get(themeId)
+                .get(0);
+    }
+
+    public Map<Long, List<ReservationTimeStatuses>> findTimeStatuses(List<Long> themeIds, LocalDate startDate,
+                                                                     LocalDate endDate, List<ReservationTime> times) {
+        long firstIndexed = evictPastDays();
+        Map<Long, BitSet> pastOccupancy = loadPastOccupancy(themeIds, startDate, endDate, firstIndexed);
+        Map<Long, List<ReservationTimeStatuses>> statuses = new LinkedHashMap<>();
+        for (long themeId : themeIds) {
+            statuses.put(themeId, startDate.datesUntil(endDate.plusDays(1))
+                    .map(date -> {
+                        long key = keyOf(themeId, date);
+                        BitSet booked = date.toEpochDay() < firstIndexed
+                                ? pastOccupancy.getOrDefault(key, EMPTY)
+                                : occupancy.getOrDefault(key, EMPTY);
+                        return toTimeStatuses(booked, times);
+                    })
+                    .toList());
+        }
+        return statuses;
+    }
+
+    public void markBooked(ReservationSlot slot) {
+        TransactionCallbacks.afterCommit(() -> updateSlot(slot, true));
+    }
+
+    public void markAvailable(ReservationSlot slot) {
+        TransactionCallbacks.afterCommit(() -> updateSlot(slot, false));
+    }
+
+    public void addTime(ReservationTime time) {
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                ordinalOf(time.getId());
+                List<ReservationTime> updatedTimes = new ArrayList<>(times);
+                updatedTimes.add(time);
+                times = List.copyOf(updatedTimes);
+            }
+        });
+    }
+
+    public void removeTime(long timeId) {
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                times = times.stream()
+                        .filter(time -> time.getId() != timeId)
+                        .toList();
+            }
+        });
+    }
+
+    private ReservationTimeStatuses toTimeStatuses(BitSet booked, List<ReservationTime> times) {
+        List<ReservationTimeStatus> statuses = new ArrayList<>(times.size());
+        for (ReservationTime time : times) {
+            Integer ordinal = timeOrdinals.get(time.getId());
+            boolean isBooked = ordinal != null && booked.get(ordinal);
+            statuses.add(new ReservationTimeStatus(time,
+                    isBooked ? ReservationStatus.BOOKED : ReservationStatus.AVAILABLE));
+        }
+        return new ReservationTimeStatuses(statuses);
+    }
+
+    private Map<Long, BitSet> loadPastOccupancy(List<Long> themeIds, LocalDate startDate, LocalDate endDate,
+                                                long firstIndexed) {
+        if (startDate.toEpochDay() >= firstIndexed) {
+            return Map.of();
+        }
+        LocalDate pastEndDate = endDate.toEpochDay() < firstIndexed ? endDate : LocalDate.ofEpochDay(firstIndexed - 1);
+        Map<Long, BitSet> pastOccupancy = new HashMap<>();
+        reservationRepository.forEachReservationSlotBetween(themeIds, startDate, pastEndDate, slot -> {
+            Integer ordinal = timeOrdinals.get(slot.getTimeId());
+            if (ordinal != null) {
+                pastOccupancy.computeIfAbsent(keyOf(slot.getThemeId(), slot.getDate()), key -> new BitSet())
+                        .set(ordinal);
+            }
+        });
+        return pastOccupancy;
+    }
+
+    private long evictPastDays() {
+        long today = LocalDate.now().toEpochDay();
+        if (firstIndexedDay >= today) {
+            return firstIndexedDay;
+        }
+        synchronized (this) {
+            if (firstIndexedDay < today) {
+                occupancy.keySet().removeIf(key -> dayOf(key) < today);
+                firstIndexedDay = today;
+            }
+            return firstIndexedDay;
+        }
+    }
+
+    private synchronized void updateSlot(ReservationSlot slot, boolean booked) {
+        if (slot.getDate().toEpochDay() < evictPastDays()) {
+            return;
+        }
+        int ordinal = ordinalOf(slot.getTimeId());
+        occupancy.compute(keyOf(slot.getThemeId(), slot.getDate()), (key, bits) -> {
+            BitSet updated = bits == null ? new BitSet() : (BitSet) bits.clone();
+            updated.set(ordinal, booked);
+            return updated.isEmpty() ? null : updated;
+        });
+    }
+
+    private int ordinalOf(long timeId) {
+        return timeOrdinals.computeIfAbsent(timeId, id -> nextOrdinal.getAndIncrement());
+    }
+
+    private static long keyOf(long themeId, LocalDate date) {
+        return themeId << Integer.SIZE | (date.toEpochDay() & 0xFFFFFFFFL);
+    }
+
+    private static long dayOf(long key) {
+        return (int) key;
+    }
+}
@@ -1,25 +1,61 @@
 package roomescape.service;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationSlot;
 import roomescape.domain.reservation.ReservationTime;
+import roomescape.repository.JdbcMemberRepository;
 import roomescape.repository.JdbcReservationRepository;
 import roomescape.repository.JdbcReservationTimeRepository;
+import roomescape.repository.JdbcThemeRepository;
+import roomescape.repository.JdbcThemeStatsRepository;
+import roomescape.service.dto.member.MemberResponse;
+import roomescape.service.dto.reservation.ReservationBatchResponse;
 import roomescape.service.dto.reservation.ReservationCreate;
 import roomescape.service.dto.reservation.ReservationResponse;
 import roomescape.service.dto.reservation.ReservationSearchParams;
+import roomescape.service.dto.reservation.ReservationTimeResponse;
+import roomescape.service.dto.theme.ThemeResponse;
 
 @Service
 public class ReservationService {
 
     private final JdbcReservationRepository reservationRepository;
     private final JdbcReservationTimeRepository reservationTimeRepository;
+    private final JdbcThemeRepository themeRepository;
+    private final JdbcMemberRepository memberRepository;
+    private final JdbcThemeStatsRepository themeStatsRepository;
+    private final ReservationOccupancyIndex occupancyIndex;
+    private final ThemePopularityCounter popularityCounter;
+    private final CatalogCache catalogCache;
 
     public ReservationService(JdbcReservationRepository reservationRepository,
-                              JdbcReservationTimeRepository reservationTimeRepository) {
+                              JdbcReservationTimeRepository reservationTimeRepository,
+                              JdbcThemeRepository themeRepository,
+                              JdbcMemberRepository memberRepository,
+                              JdbcThemeStatsRepository themeStatsRepository,
+                              ReservationOccupancyIndex occupancyIndex,
+                              ThemePopularityCounter popularityCounter,
+                              CatalogCache catalogCache) {
         this.reservationRepository = reservationRepository;
         this.reservationTimeRepository = reservationTimeRepository;
+        this.themeRepository = themeRepository;
+        this.memberRepository = memberRepository;
+        this.themeStatsRepository = themeStatsRepository;
+        this.occupancyIndex = occupancyIndex;
+        this.popularityCounter = popularityCounter;
+        this.catalogCache = catalogCache;
     }
 
     public List<ReservationResponse> findAllReservations(ReservationSearchParams request) {
@@ -29,6 +65,16 @@ public class ReservationService {
                 .toList();
     }
 
+    public void forEachReservation(ReservationSearchParams request, Consumer<ReservationResponse> consumer) {
+        reservationRepository.streamReservationsWithParams(request,
+                reservation -> consumer.accept(new ReservationResponse(reservation)));
+    }
+
+    public long countReservations(ReservationSearchParams request) {
+        return reservationRepository.countReservationsWithParams(request);
+    }
+
+    @Transactional
     public ReservationResponse createReservation(ReservationCreate reservationInfo) {
         Reservation reservation = reservationInfo.toReservation();
         ReservationTime time = reservationTimeRepository.findReservationTimeById(reservation.getTimeId())
@@ -38,18 +84,89 @@ public class ReservationService {
             throw new IllegalArgumentException("지나간 날짜와 시간에 대한 예약은 불가능합니다.");
         }
 
-        if (reservationRepository.isReservationExistsByDateAndTimeIdAndThemeId(reservation)) {
-            throw new IllegalArgumentException("해당 테마는 같은 시간에 이미 예약이 존재합니다.");
+        ThemeResponse theme = catalogCache.findTheme(reservation.getThemeId())
+                .orElseThrow(() -> new IllegalArgumentException("예약하려는 테마를 찾을 수 없습니다."));
+        String memberName = reservationInfo.findMemberName()
+                .or(() -> memberRepository.findMemberNameById(reservation.getMemberId()))
+                .orElseThrow(() -> new IllegalArgumentException("예약하려는 회원을 찾을 수 없습니다."));
+
+        Reservation savedReservation = reservationRepository.insertReservation(
+                new Reservation(null, reservation.getMember(), reservation.getTheme(), reservation.getDate(), time));
+        themeStatsRepository.increaseBookedCount(savedReservation.getThemeId(), savedReservation.getDate(), 1);
+        occupancyIndex.markBooked(savedReservation.getSlot());
+        popularityCounter.increase(savedReservation.getThemeId(), savedReservation.getDate(), 1);
+        return new ReservationResponse(savedReservation.getId(),
+                new MemberResponse(savedReservation.getMemberId(), memberName),
+                theme,
+                savedReservation.getDate().toString(),
+                new ReservationTimeResponse(time));
+    }
+
+    @Transactional
+    public List<ReservationBatchResponse> createReservations(List<ReservationCreate> reservationInfos) {
+        Map<Long, ReservationTime> times = reservationTimeRepository.findAllReservationTimes().stream()
+                .collect(Collectors.toMap(ReservationTime::getId, Function.identity()));
+        List<Reservation> reservations = reservationInfos.stream()
+                .map(ReservationCreate::toReservation)
+                .toList();
+        Set<Long> themeIds = themeRepository.findExistingThemeIds(reservations.stream()
+                .map(Reservation::getThemeId)
+                .collect(Collectors.toSet()));
+        Set<Long> memberIds = memberRepository.findExistingMemberIds(reservations.stream()
+                .map(Reservation::getMemberId)
+                .collect(Collectors.toSet()));
+        ReservationBatchResponse[] responses = new ReservationBatchResponse[reservationInfos.size()];
+        Map<Integer, Reservation> candidates = new LinkedHashMap<>();
+        Set<ReservationSlot> requestedSlots = new HashSet<>();
+
+        for (int index = 0; index < reservations.size(); index++) {
+            Reservation reservation = reservations.get(index);
+            ReservationTime time = times.get(reservation.getTimeId());
+            if (time == null) {
+                responses[index] = ReservationBatchResponse.invalid(index, "예약하려는 시간을 찾을 수 없습니다.");
+            } else if (!themeIds.contains(reservation.getThemeId())) {
+                responses[index] = ReservationBatchResponse.invalid(index, "예약하려는 테마를 찾을 수 없습니다.");
+            } else if (!memberIds.contains(reservation.getMemberId())) {
+                responses[index] = ReservationBatchResponse.invalid(index, "예약하려는 회원을 찾을 수 없습니다.");
+            } else if (Reservation.isPreviousDate(reservation.getDate(), time)) {
+                responses[index] = ReservationBatchResponse.invalid(index, "지나간 날짜와 시간에 대한 예약은 불가능합니다.");
+            } else if (!requestedSlots.add(reservation.getSlot())) {
+                responses[index] = ReservationBatchResponse.conflict(index);
+            } else {
+                candidates.put(index, reservation);
+            }
         }
 
-        Reservation savedReservation = reservationRepository.insertReservation(reservation);
-        return new ReservationResponse(savedReservation);
+        Set<ReservationSlot> bookedSlots = reservationRepository.findBookedSlots(requestedSlots);
+        candidates.entrySet().removeIf(candidate -> {
+            boolean booked = bookedSlots.contains(candidate.getValue().getSlot());
+            if (booked) {
+                responses[candidate.getKey()] = ReservationBatchResponse.conflict(candidate.getKey());
+            }
+            return booked;
+        });
+
+        List<Long> savedIds = reservationRepository.insertReservations(new ArrayList<>(candidates.values()));
+        candidates.values().stream()
+                .collect(Collectors.groupingBy(Reservation::getThemeId,
+                        Collectors.groupingBy(Reservation::getDate, Collectors.counting())))
+                .forEach((themeId, countsByDate) -> countsByDate.forEach((date, count) -> {
+                    themeStatsRepository.increaseBookedCount(themeId, date, count.intValue());
+                    popularityCounter.increase(themeId, date, count.intValue());
+                }));
+        candidates.values().forEach(reservation -> occupancyIndex.markBooked(reservation.getSlot()));
+        Iterator<Long> savedId = savedIds.iterator();
+        candidates.keySet().forEach(index -> responses[index] = ReservationBatchResponse.created(index, savedId.next()));
+        return List.of(responses);
     }
 
+    @Transactional
     public void deleteReservation(long id) {
-        if (!reservationRepository.isReservationExistsById(id)) {
-            throw new IllegalArgumentException("존재하지 않는 아이디입니다.");
-        }
+        ReservationSlot slot = reservationRepository.findReservationSlotById(id)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 아이디입니다."));
         reservationRepository.deleteReservationById(id);
+        themeStatsRepository.decreaseBookedCount(slot.getThemeId(), slot.getDate());
+        occupancyIndex.markAvailable(slot);
+        popularityCounter.decrease(slot.getThemeId(), slot.getDate());
     }
 }
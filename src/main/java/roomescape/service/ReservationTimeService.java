@@ -1,6 +1,11 @@
 package roomescape.service;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
 import org.springframework.stereotype.Service;
 import roomescape.domain.reservation.ReservationTime;
 import roomescape.domain.reservation.ReservationTimeStatuses;
@@ -8,44 +13,87 @@ import roomescape.repository.JdbcReservationRepository;
 import roomescape.repository.JdbcReservationTimeRepository;
 import roomescape.service.dto.reservation.ReservationTimeRequest;
 import roomescape.service.dto.reservation.ReservationTimeResponse;
+import roomescape.service.dto.theme.ThemeResponse;
+import roomescape.service.dto.time.AvailabilityMatrixRequest;
+import roomescape.service.dto.time.AvailabilityMatrixResponse;
 import roomescape.service.dto.time.AvailableTimeRequest;
 import roomescape.service.dto.time.AvailableTimeResponses;
+import roomescape.service.dto.time.DateAvailabilityResponse;
+import roomescape.service.dto.time.ThemeAvailabilityResponse;
 
 @Service
 public class ReservationTimeService {
 
+    private static final int MAX_MATRIX_DAYS = 31;
+
     private final JdbcReservationTimeRepository reservationTimeRepository;
     private final JdbcReservationRepository reservationRepository;
+    private final ReservationOccupancyIndex occupancyIndex;
+    private final CatalogCache catalogCache;
 
     public ReservationTimeService(JdbcReservationTimeRepository reservationTimeRepository,
-                                  JdbcReservationRepository reservationRepository) {
+                                  JdbcReservationRepository reservationRepository,
+                                  ReservationOccupancyIndex occupancyIndex,
+                                  CatalogCache catalogCache) {
         this.reservationTimeRepository = reservationTimeRepository;
         this.reservationRepository = reservationRepository;
+        this.occupancyIndex = occupancyIndex;
+        this.catalogCache = catalogCache;
     }
 
-    public List<ReservationTimeResponse> findAllReservationTimes() {
-        return reservationTimeRepository.findAllReservationTimes()
-                .stream()
-                .map(ReservationTimeResponse::new)
-                .toList();
+    public JsonSnapshot findAllReservationTimesJson() {
+        return catalogCache.getTimes();
     }
 
-    public AvailableTimeResponses findAvailableReservationTimes(AvailableTimeRequest request) {
-        List<ReservationTime> allTimes = reservationTimeRepository.findAllReservationTimes();
-        List<ReservationTime> bookedTimes = reservationTimeRepository.findReservedTimeByThemeAndDate(
-                request.getDate(), request.getThemeId());
+    public Optional<JsonSnapshot> findLoadedReservationTimesJson() {
+        return catalogCache.findLoadedTimes();
+    }
 
-        ReservationTimeStatuses reservationStatuses = new ReservationTimeStatuses(allTimes, bookedTimes);
+    public boolean isAvailabilityIndexed(AvailableTimeRequest request) {
+        return occupancyIndex.isIndexed(request.getDate());
+    }
+
+    public AvailableTimeResponses findAvailableReservationTimes(AvailableTimeRequest request) {
+        ReservationTimeStatuses reservationStatuses = occupancyIndex.findTimeStatuses(
+                request.getThemeId(), request.getDate());
         return new AvailableTimeResponses(reservationStatuses);
     }
 
-    public ReservationTimeResponse createReservationTime(ReservationTimeRequest request) {
-        ReservationTime reservationTime = request.toReservationTime();
-        if (reservationTimeRepository.isTimeExistsByStartTime(reservationTime.getStartAt().toString())) {
-            throw new IllegalArgumentException("중복된 시간을 입력할 수 없습니다.");
+    public AvailabilityMatrixResponse findAvailabilityMatrix(AvailabilityMatrixRequest request) {
+        LocalDate startDate = request.getStartDate();
+        LocalDate endDate = request.getEndDate();
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("조회 종료 날짜는 시작 날짜보다 빠를 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_MATRIX_DAYS) {
+            throw new IllegalArgumentException("예약 가능 현황은 최대 " + MAX_MATRIX_DAYS + "일까지 조회할 수 있습니다.");
         }
-        ReservationTime savedTime = reservationTimeRepository.insertReservationTime(reservationTime)
-                .orElseThrow(() -> new IllegalArgumentException("시간을 불러올 수 없습니다."));
+
+        List<Long> allThemeIds = findAllThemeIds();
+        List<Long> themeIds = request.hasThemeIds() ? request.getThemeIds() : allThemeIds;
+        if (!allThemeIds.containsAll(themeIds)) {
+            throw new IllegalArgumentException("존재하지 않는 테마입니다.");
+        }
+        List<ReservationTime> times = occupancyIndex.getTimes();
+        List<LocalDate> dates = startDate.datesUntil(endDate.plusDays(1)).toList();
+        Map<Long, List<ReservationTimeStatuses>> statuses = occupancyIndex.findTimeStatuses(
+                themeIds, startDate, endDate, times);
+        List<ThemeAvailabilityResponse> themes = themeIds.stream()
+                .map(themeId -> new ThemeAvailabilityResponse(themeId, IntStream.range(0, dates.size())
+                        .mapToObj(index -> new DateAvailabilityResponse(dates.get(index),
+                                statuses.get(themeId).get(index)))
+                        .toList()))
+                .toList();
+        List<ReservationTimeResponse> timeResponses = times.stream()
+                .map(ReservationTimeResponse::new)
+                .toList();
+        return new AvailabilityMatrixResponse(timeResponses, themes);
+    }
+
+    public ReservationTimeResponse createReservationTime(ReservationTimeRequest request) {
+        ReservationTime savedTime = reservationTimeRepository.insertReservationTime(request.toReservationTime());
+        occupancyIndex.addTime(savedTime);
+        catalogCache.invalidateTimes();
         return new ReservationTimeResponse(savedTime);
     }
 
@@ -54,5 +102,14 @@ public class ReservationTimeService {
             throw new IllegalArgumentException("해당 시간에 예약이 있어 삭제할 수 없습니다.");
         }
         reservationTimeRepository.deleteReservationTimeById(id);
+        occupancyIndex.removeTime(id);
+        catalogCache.invalidateTimes();
+    }
+
+    private List<Long> findAllThemeIds() {
+        return catalogCache.findAllThemes()
+                .stream()
+                .map(ThemeResponse::getId)
+                .toList();
     }
 }
@@ -0,0 +1,163 @@
+package roomescape.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import roomescape.repository.JdbcThemeStatsRepository;
+
+@Component
+public class ThemePopularityCounter implements SmartInitializingSingleton {
+
+    private static final int PAST_DAYS = 31;
+    private static final int FUTURE_DAYS = 31;
+    private static final int WINDOW_DAYS = PAST_DAYS + FUTURE_DAYS;
+    private static final Comparator<ThemeCount> MOST_BOOKED_LAST = Comparator
+            .comparingLong(ThemeCount::getCount)
+            .thenComparing(ThemeCount::getThemeId, Comparator.reverseOrder());
+
+    private final JdbcThemeStatsRepository themeStatsRepository;
+    private volatile Window window = new Window(Long.MIN_VALUE);
+    private volatile Window building;
+
+    public ThemePopularityCounter(JdbcThemeStatsRepository themeStatsRepository) {
+        this.themeStatsRepository = themeStatsRepository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        long startDay = currentWindowStartDay();
+        Window next = new Window(startDay);
+        building = next;
+        try {
+            themeStatsRepository.findBookedCounts(LocalDate.ofEpochDay(startDay),
+                            LocalDate.ofEpochDay(startDay + WINDOW_DAYS - 1))
+                    .forEach(bookedCount -> next.add(bookedCount.getThemeId(),
+                            bookedCount.getDate().toEpochDay(), bookedCount.getBookedCount()));
+            window = next;
+        } finally {
+            building = null;
+        }
+    }
+
+    public void increase(long themeId, LocalDate date, int count) {
+        TransactionCallbacks.afterCommit(() -> apply(themeId, date.toEpochDay(), count));
+    }
+
+    public void decrease(long themeId, LocalDate date) {
+        TransactionCallbacks.afterCommit(() -> apply(themeId, date.toEpochDay(), -1));
+    }
+
+    public boolean covers(LocalDate startDate, LocalDate endDate) {
+        Window current = currentWindow();
+        return current.contains(startDate.toEpochDay())
+                && current.contains(endDate.toEpochDay())
+                && !startDate.isAfter(endDate);
+    }
+
+    public List<Long> findTopThemeIds(LocalDate startDate, LocalDate endDate, int count) {
+        long fromDay = startDate.toEpochDay();
+        long toDay = endDate.toEpochDay();
+        PriorityQueue<ThemeCount> topThemes = new PriorityQueue<>(count + 1, MOST_BOOKED_LAST);
+        currentWindow().counters.forEach((themeId, days) -> {
+            long booked = 0;
+            for (long day = fromDay; day <= toDay; day++) {
+                booked += days.get(slotOf(day));
+            }
+            if (booked > 0) {
+                topThemes.offer(new ThemeCount(themeId, booked));
+                if (topThemes.size() > count) {
+                    topThemes.poll();
+                }
+            }
+        });
+
+        List<Long> themeIds = new ArrayList<>(topThemes.size());
+        while (!topThemes.isEmpty()) {
+            themeIds.add(0, topThemes.poll().getThemeId());
+        }
+        return themeIds;
+    }
+
+    private void apply(long themeId, long day, long delta) {
+        Window next = building;
+        Window current = window;
+        current.add(themeId, day, delta);
+        if (next != null && next != current) {
+            next.add(themeId, day, delta);
+        }
+    }
+
+    private Window currentWindow() {
+        Window current = window;
+        if (current.startDay == currentWindowStartDay()) {
+            return current;
+        }
+        return slideWindow();
+    }
+
+    private synchronized Window slideWindow() {
+        if (window.startDay != currentWindowStartDay()) {
+            rebuild();
+        }
+        return window;
+    }
+
+    private static long currentWindowStartDay() {
+        return LocalDate.now().toEpochDay() - PAST_DAYS + 1;
+    }
+
+    private static int slotOf(long day) {
+        return (int) Math.floorMod(day, (long) WINDOW_DAYS);
+    }
+
+    private static class Window {
+
+        private final long startDay;
+        private final Map<Long, AtomicLongArray> counters = new ConcurrentHashMap<>();
+
+        Window(long startDay) {
+            this.startDay = startDay;
+        }
+
+        boolean contains(long day) {
+            return day >= startDay && day < startDay + WINDOW_DAYS;
+        }
+
+        void add(long themeId, long day, long delta) {
+            if (contains(day)) {
+                counters.computeIfAbsent(themeId, id -> new AtomicLongArray(WINDOW_DAYS))
+                        .addAndGet(slotOf(day), delta);
+            }
+        }
+    }
+
+    private static class ThemeCount {
+
+        private final long themeId;
+        private final long count;
+
+        ThemeCount(long themeId, long count) {
+            this.themeId = themeId;
+            this.count = count;
+        }
+
+        long getThemeId() {
+            return themeId;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
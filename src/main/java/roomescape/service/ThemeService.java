@@ -1,10 +1,18 @@
 package roomescape.service;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import roomescape.domain.reservation.Theme;
 import roomescape.repository.JdbcReservationRepository;
 import roomescape.repository.JdbcThemeRepository;
+import roomescape.repository.JdbcThemeStatsRepository;
 import roomescape.service.dto.theme.PopularThemeRequest;
 import roomescape.service.dto.theme.ThemeRequest;
 import roomescape.service.dto.theme.ThemeResponse;
@@ -14,30 +22,64 @@ public class ThemeService {
 
     private final JdbcThemeRepository themeRepository;
     private final JdbcReservationRepository reservationRepository;
+    private final JdbcThemeStatsRepository themeStatsRepository;
+    private final CatalogCache catalogCache;
+    private final ThemePopularityCounter popularityCounter;
 
-    public ThemeService(JdbcThemeRepository themeRepository, JdbcReservationRepository reservationRepository) {
+    public ThemeService(JdbcThemeRepository themeRepository, JdbcReservationRepository reservationRepository,
+                        JdbcThemeStatsRepository themeStatsRepository, CatalogCache catalogCache,
+                        ThemePopularityCounter popularityCounter) {
         this.themeRepository = themeRepository;
         this.reservationRepository = reservationRepository;
+        this.themeStatsRepository = themeStatsRepository;
+        this.catalogCache = catalogCache;
+        this.popularityCounter = popularityCounter;
     }
 
-    public List<ThemeResponse> findAllThemes() {
-        return themeRepository.findAllThemes()
-                .stream()
-                .map(ThemeResponse::new)
-                .toList();
+    public JsonSnapshot findAllThemesJson() {
+        return catalogCache.getThemes();
+    }
+
+    public Optional<JsonSnapshot> findLoadedThemesJson() {
+        return catalogCache.findLoadedThemes();
     }
 
     public List<ThemeResponse> findTopBookedThemes(PopularThemeRequest request) {
-        List<Theme> topBookedThemes = themeRepository.findTopThemesDescendingByReservationCount(
-                request.getStartDate(), request.getEndDate(), request.getCount());
+        LocalDate startDate = request.getStartDate();
+        LocalDate endDate = request.getEndDate();
+        List<Theme> topBookedThemes;
+        if (popularityCounter.covers(startDate, endDate)) {
+            topBookedThemes = findThemesInOrder(
+                    popularityCounter.findTopThemeIds(startDate, endDate, request.getCount()));
+        } else {
+            topBookedThemes = themeRepository.findTopThemesDescendingByReservationCount(
+                    startDate, endDate, request.getCount());
+        }
 
         return topBookedThemes.stream()
                 .map(ThemeResponse::new)
                 .toList();
     }
 
+    private List<Theme> findThemesInOrder(List<Long> themeIds) {
+        Map<Long, Theme> themes = themeRepository.findThemesByIds(themeIds)
+                .stream()
+                .collect(Collectors.toMap(Theme::getId, Function.identity()));
+        return themeIds.stream()
+                .map(themes::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Transactional
+    public void rebuildThemeStats() {
+        themeStatsRepository.rebuildThemeDailyStats();
+        popularityCounter.rebuild();
+    }
+
     public ThemeResponse createTheme(ThemeRequest request) {
         Theme theme = themeRepository.insertTheme(request.toTheme());
+        catalogCache.invalidateThemes();
         return new ThemeResponse(theme);
     }
 
@@ -49,5 +91,6 @@ public class ThemeService {
             throw new IllegalArgumentException("해당 테마에 예약이 있어 삭제할 수 없습니다.");
         }
         themeRepository.deleteThemeById(id);
+        catalogCache.invalidateThemes();
     }
 }
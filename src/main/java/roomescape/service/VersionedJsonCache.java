@@ -0,0 +1,88 @@
+package roomescape.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+public class VersionedJsonCache<T> {
+
+    private final String name;
+    private final String generation;
+    private final ObjectMapper objectMapper;
+    private final Supplier<T> loader;
+    private final AtomicLong version = new AtomicLong();
+    private volatile Entry<T> entry;
+
+    public VersionedJsonCache(String name, String generation, ObjectMapper objectMapper, Supplier<T> loader) {
+        this.name = name;
+        this.generation = generation;
+        this.objectMapper = objectMapper;
+        this.loader = loader;
+    }
+
+    public JsonSnapshot get() {
+        return current().snapshot;
+    }
+
+    public T getValue() {
+        return current().value;
+    }
+
+    public Optional<JsonSnapshot> findLoaded() {
+        Entry<T> current = entry;
+        if (current != null && current.snapshot.getVersion() == version.get()) {
+            return Optional.of(current.snapshot);
+        }
+        return Optional.empty();
+    }
+
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    private Entry<T> current() {
+        Entry<T> current = entry;
+        if (current != null && current.snapshot.getVersion() == version.get()) {
+            return current;
+        }
+        return load();
+    }
+
+    private synchronized Entry<T> load() {
+        long loadingVersion = version.get();
+        Entry<T> current = entry;
+        if (current != null && current.snapshot.getVersion() == loadingVersion) {
+            return current;
+        }
+        T value = loader.get();
+        Entry<T> loaded = new Entry<>(
+                new JsonSnapshot(loadingVersion, createETag(loadingVersion), serialize(value)), value);
+        entry = loaded;
+        return loaded;
+    }
+
+    private String createETag(long loadingVersion) {
+        return '"' + name + '-' + generation + '-' + loadingVersion + '"';
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(name + " 목록을 JSON으로 변환할 수 없습니다.", e);
+        }
+    }
+
+    private static class Entry<T> {
+
+        private final JsonSnapshot snapshot;
+        private final T value;
+
+        Entry(JsonSnapshot snapshot, T value) {
+            this.snapshot = snapshot;
+            this.value = value;
+        }
+    }
+}
@@ -3,7 +3,6 @@ package roomescape.service.dto.member;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import org.hibernate.validator.constraints.Length;
-import roomescape.domain.member.Member;
 
 public class MemberCreateRequest {
 
@@ -26,10 +25,6 @@ public class MemberCreateRequest {
         this.name = name;
     }
 
-    public Member toMember() {
-        return new Member(null, email, password, name);
-    }
-
     public String getEmail() {
         return email;
     }
@@ -2,7 +2,6 @@ package roomescape.service.dto.member;
 
 import roomescape.controller.helper.LoginMember;
 import roomescape.domain.member.MemberInfo;
-import roomescape.domain.reservation.Reservation;
 
 public class MemberResponse {
 
@@ -22,10 +21,6 @@ public class MemberResponse {
         this(member.getId(), member.getName());
     }
 
-    public MemberResponse(Reservation reservation) {
-        this(reservation.getMemberId(), reservation.getMemberName());
-    }
-
     public long getId() {
         return id;
     }
@@ -0,0 +1,45 @@
+package roomescape.service.dto.reservation;
+
+public class ReservationBatchResponse {
+
+    private final int index;
+    private final ReservationBatchStatus status;
+    private final Long id;
+    private final String message;
+
+    public ReservationBatchResponse(int index, ReservationBatchStatus status, Long id, String message) {
+        this.index = index;
+        this.status = status;
+        this.id = id;
+        this.message = message;
+    }
+
+    public static ReservationBatchResponse created(int index, long id) {
+        return new ReservationBatchResponse(index, ReservationBatchStatus.CREATED, id, null);
+    }
+
+    public static ReservationBatchResponse conflict(int index) {
+        return new ReservationBatchResponse(index, ReservationBatchStatus.CONFLICT, null,
+                "해당 테마는 같은 시간에 이미 예약이 존재합니다.");
+    }
+
+    public static ReservationBatchResponse invalid(int index, String message) {
+        return new ReservationBatchResponse(index, ReservationBatchStatus.INVALID, null, message);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public ReservationBatchStatus getStatus() {
+        return status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
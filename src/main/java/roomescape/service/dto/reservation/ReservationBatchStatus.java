@@ -0,0 +1,7 @@
+package roomescape.service.dto.reservation;
+
+public enum ReservationBatchStatus {
+    CREATED,
+    CONFLICT,
+    INVALID
+}
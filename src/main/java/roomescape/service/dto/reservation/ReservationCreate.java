@@ -2,6 +2,7 @@ package roomescape.service.dto.reservation;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Optional;
 import roomescape.controller.dto.MemberReservationRequest;
 import roomescape.controller.helper.LoginMember;
 import roomescape.domain.member.Member;
@@ -15,16 +16,27 @@ public class ReservationCreate {
     private final long themeId;
     private final String date;
     private final long timeId;
+    private final String memberName;
 
-    public ReservationCreate(long memberId, long themeId, String date, long timeId) {
+    public ReservationCreate(long memberId, long themeId, String date, long timeId, String memberName) {
         this.memberId = memberId;
         this.themeId = themeId;
         this.date = date;
         this.timeId = timeId;
+        this.memberName = memberName;
+    }
+
+    public ReservationCreate(long memberId, long themeId, String date, long timeId) {
+        this(memberId, themeId, date, timeId, null);
     }
 
     public ReservationCreate(LoginMember loginMember, MemberReservationRequest requestDto) {
-        this(loginMember.getId(), requestDto.getThemeId(), requestDto.getDate(), requestDto.getTimeId());
+        this(loginMember.getId(), requestDto.getThemeId(), requestDto.getDate(), requestDto.getTimeId(),
+                loginMember.getName());
+    }
+
+    public Optional<String> findMemberName() {
+        return Optional.ofNullable(memberName);
     }
 
     public Reservation toReservation() {
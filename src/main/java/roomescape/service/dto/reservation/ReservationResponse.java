@@ -1,6 +1,6 @@
 package roomescape.service.dto.reservation;
 
-import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationSummary;
 import roomescape.service.dto.member.MemberResponse;
 import roomescape.service.dto.theme.ThemeResponse;
 
@@ -21,12 +21,12 @@ public class ReservationResponse {
         this.time = time;
     }
 
-    public ReservationResponse(Reservation reservation) {
+    public ReservationResponse(ReservationSummary reservation) {
         this(reservation.getId(),
-                new MemberResponse(reservation),
+                new MemberResponse(reservation.getMemberId(), reservation.getMemberName()),
                 new ThemeResponse(reservation.getTheme()),
                 reservation.getDate().toString(),
-                new ReservationTimeResponse(reservation.getReservationTime()));
+                new ReservationTimeResponse(reservation.getTime()));
     }
 
     public long getId() {
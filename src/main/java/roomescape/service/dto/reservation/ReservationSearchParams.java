@@ -1,19 +1,62 @@
 package roomescape.service.dto.reservation;
 
 import java.time.LocalDate;
-import java.time.LocalTime;
 
 public class ReservationSearchParams {
+
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int MAX_LIMIT = 1000;
+
     private final Long memberId;
     private final Long themeId;
     private final LocalDate dateFrom;
-    private final LocalTime dateTo;
+    private final LocalDate dateTo;
+    private final LocalDate afterDate;
+    private final Long afterId;
+    private final Integer limit;
 
-    public ReservationSearchParams(Long memberId, Long themeId, LocalDate dateFrom, LocalTime dateTo) {
+    public ReservationSearchParams(Long memberId, Long themeId, LocalDate dateFrom, LocalDate dateTo,
+                                   LocalDate afterDate, Long afterId, Integer limit) {
+        validateCursor(afterDate, afterId);
         this.memberId = memberId;
         this.themeId = themeId;
         this.dateFrom = dateFrom;
         this.dateTo = dateTo;
+        this.afterDate = afterDate;
+        this.afterId = afterId;
+        this.limit = convertLimit(limit, afterDate != null);
+    }
+
+    public ReservationSearchParams(Long memberId, Long themeId, LocalDate dateFrom, LocalDate dateTo) {
+        this(memberId, themeId, dateFrom, dateTo, null, null, null);
+    }
+
+    public ReservationSearchParams withPage(LocalDate afterDate, Long afterId, int limit) {
+        return new ReservationSearchParams(memberId, themeId, dateFrom, dateTo, afterDate, afterId, limit);
+    }
+
+    private static void validateCursor(LocalDate afterDate, Long afterId) {
+        if ((afterDate == null) != (afterId == null)) {
+            throw new IllegalArgumentException("다음 페이지 조회 시 마지막 예약의 날짜와 아이디를 함께 입력해야 합니다.");
+        }
+    }
+
+    private static Integer convertLimit(Integer limit, boolean hasCursor) {
+        if (limit == null) {
+            return hasCursor ? DEFAULT_LIMIT : null;
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("한 번에 조회할 예약 개수는 1개 이상 " + MAX_LIMIT + "개 이하여야 합니다.");
+        }
+        return limit;
+    }
+
+    public boolean hasCursor() {
+        return afterDate != null;
+    }
+
+    public boolean hasLimit() {
+        return limit != null;
     }
 
     public Long memberId() {
@@ -28,7 +71,19 @@ public class ReservationSearchParams {
         return dateFrom;
     }
 
-    public LocalTime dateTo() {
+    public LocalDate dateTo() {
         return dateTo;
     }
+
+    public LocalDate afterDate() {
+        return afterDate;
+    }
+
+    public Long afterId() {
+        return afterId;
+    }
+
+    public Integer limit() {
+        return limit;
+    }
 }
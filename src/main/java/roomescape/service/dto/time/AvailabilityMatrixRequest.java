@@ -0,0 +1,40 @@
+package roomescape.service.dto.time;
+
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+import java.util.List;
+import roomescape.controller.helper.validator.DateFormatConstraint;
+
+public class AvailabilityMatrixRequest {
+
+    @DateFormatConstraint
+    private final String startDate;
+
+    @DateFormatConstraint
+    private final String endDate;
+
+    @Size(max = 50, message = "한 번에 조회할 수 있는 테마는 최대 50개입니다.")
+    private final List<Long> themeIds;
+
+    public AvailabilityMatrixRequest(String startDate, String endDate, List<Long> themeIds) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.themeIds = themeIds;
+    }
+
+    public LocalDate getStartDate() {
+        return LocalDate.parse(startDate);
+    }
+
+    public LocalDate getEndDate() {
+        return LocalDate.parse(endDate);
+    }
+
+    public List<Long> getThemeIds() {
+        return themeIds;
+    }
+
+    public boolean hasThemeIds() {
+        return themeIds != null && !themeIds.isEmpty();
+    }
+}
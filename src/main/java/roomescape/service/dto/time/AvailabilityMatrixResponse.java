@@ -0,0 +1,26 @@
+package roomescape.service.dto.time;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonCreator.Mode;
+import java.util.List;
+import roomescape.service.dto.reservation.ReservationTimeResponse;
+
+public class AvailabilityMatrixResponse {
+
+    private final List<ReservationTimeResponse> times;
+    private final List<ThemeAvailabilityResponse> themes;
+
+    @JsonCreator(mode = Mode.PROPERTIES)
+    public AvailabilityMatrixResponse(List<ReservationTimeResponse> times, List<ThemeAvailabilityResponse> themes) {
+        this.times = times;
+        this.themes = themes;
+    }
+
+    public List<ReservationTimeResponse> getTimes() {
+        return times;
+    }
+
+    public List<ThemeAvailabilityResponse> getThemes() {
+        return themes;
+    }
+}
@@ -0,0 +1,54 @@
+package roomescape.service.dto.time;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonCreator.Mode;
+import java.time.LocalDate;
+import java.util.List;
+import roomescape.domain.reservation.ReservationStatus;
+import roomescape.domain.reservation.ReservationTimeStatus;
+import roomescape.domain.reservation.ReservationTimeStatuses;
+
+public class DateAvailabilityResponse {
+
+    private final String date;
+    private final List<Long> bookedTimeIds;
+    private final boolean fullyBooked;
+
+    @JsonCreator(mode = Mode.PROPERTIES)
+    public DateAvailabilityResponse(String date, List<Long> bookedTimeIds, boolean fullyBooked) {
+        this.date = date;
+        this.bookedTimeIds = bookedTimeIds;
+        this.fullyBooked = fullyBooked;
+    }
+
+    public DateAvailabilityResponse(LocalDate date, ReservationTimeStatuses reservationTimeStatuses) {
+        this(date.toString(),
+                findBookedTimeIds(reservationTimeStatuses),
+                isFullyBooked(reservationTimeStatuses));
+    }
+
+    private static List<Long> findBookedTimeIds(ReservationTimeStatuses reservationTimeStatuses) {
+        return reservationTimeStatuses.getTimeStatuses().stream()
+                .filter(timeStatus -> timeStatus.getReservationStatus() == ReservationStatus.BOOKED)
+                .map(timeStatus -> timeStatus.getReservationTime().getId())
+                .toList();
+    }
+
+    private static boolean isFullyBooked(ReservationTimeStatuses reservationTimeStatuses) {
+        List<ReservationTimeStatus> timeStatuses = reservationTimeStatuses.getTimeStatuses();
+        return !timeStatuses.isEmpty() && timeStatuses.stream()
+                .allMatch(timeStatus -> timeStatus.getReservationStatus() == ReservationStatus.BOOKED);
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public List<Long> getBookedTimeIds() {
+        return bookedTimeIds;
+    }
+
+    public boolean isFullyBooked() {
+        return fullyBooked;
+    }
+}
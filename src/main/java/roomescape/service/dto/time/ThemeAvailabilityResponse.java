@@ -0,0 +1,25 @@
+package roomescape.service.dto.time;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonCreator.Mode;
+import java.util.List;
+
+public class ThemeAvailabilityResponse {
+
+    private final long themeId;
+    private final List<DateAvailabilityResponse> dates;
+
+    @JsonCreator(mode = Mode.PROPERTIES)
+    public ThemeAvailabilityResponse(long themeId, List<DateAvailabilityResponse> dates) {
+        this.themeId = themeId;
+        this.dates = dates;
+    }
+
+    public long getThemeId() {
+        return themeId;
+    }
+
+    public List<DateAvailabilityResponse> getDates() {
+        return dates;
+    }
+}
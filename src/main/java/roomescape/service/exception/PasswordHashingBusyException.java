@@ -0,0 +1,10 @@
+package roomescape.service.exception;
+
+import roomescape.exception.RoomescapeException;
+
+public class PasswordHashingBusyException extends RoomescapeException {
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package roomescape.service.exception;
+
+public class ReservationConflictException extends IllegalArgumentException {
+
+    public ReservationConflictException(String message) {
+        super(message);
+    }
+}
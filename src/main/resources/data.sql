@@ -27,3 +27,8 @@ values (1001, 1001, 1001, '2024-05-07', 1002),
        (1006, 1006, 1003, '2024-05-09', 1001),
        (1007, 1007, 1003, '2024-05-09', 1002),
        (1008, 1001, 1002, '2024-05-11', 1002);
+
+INSERT INTO theme_daily_stats (theme_id, date, booked_count)
+SELECT theme_id, date, COUNT(*)
+FROM reservation
+GROUP BY theme_id, date;
@@ -1,7 +1,7 @@
 CREATE TABLE member
 (
     id BIGINT NOT NULL AUTO_INCREMENT,
-    email VARCHAR(255) NOT NULL UNIQUE CHECK ( email like '%@%' ),
+    email VARCHAR_IGNORECASE(255) NOT NULL UNIQUE CHECK ( email like '%@%' ),
     password VARCHAR(255) NOT NULL,
     name VARCHAR(255) NOT NULL,
     role VARCHAR(255) NOT NULL,
@@ -20,7 +20,7 @@ CREATE TABLE theme
 CREATE TABLE reservation_time
 (
     id   BIGINT       NOT NULL AUTO_INCREMENT,
-    start_at VARCHAR(255) NOT NULL,
+    start_at TIME NOT NULL UNIQUE,
     PRIMARY KEY (id)
 );
 
@@ -29,10 +29,26 @@ CREATE TABLE reservation
     id BIGINT NOT NULL AUTO_INCREMENT,
     member_id BIGINT,
     theme_id BIGINT,
-    date VARCHAR(255) NOT NULL,
+    date DATE NOT NULL,
     time_id BIGINT,
     PRIMARY KEY (id),
-    FOREIGN KEY (member_id) REFERENCES member (id),
-    FOREIGN KEY (theme_id) REFERENCES theme (id),
-    FOREIGN KEY (time_id) REFERENCES reservation_time (id)
+    UNIQUE (theme_id, date, time_id)
 );
+
+CREATE TABLE theme_daily_stats
+(
+    theme_id BIGINT NOT NULL,
+    date DATE NOT NULL,
+    booked_count INT NOT NULL,
+    PRIMARY KEY (theme_id, date)
+);
+
+CREATE INDEX idx_reservation_date_theme ON reservation (date, theme_id);
+CREATE INDEX idx_reservation_member_date ON reservation (member_id, date);
+CREATE INDEX idx_reservation_time ON reservation (time_id);
+CREATE INDEX idx_theme_daily_stats_date ON theme_daily_stats (date);
+
+ALTER TABLE reservation ADD FOREIGN KEY (member_id) REFERENCES member (id);
+ALTER TABLE reservation ADD FOREIGN KEY (theme_id) REFERENCES theme (id);
+ALTER TABLE reservation ADD FOREIGN KEY (time_id) REFERENCES reservation_time (id);
+ALTER TABLE theme_daily_stats ADD FOREIGN KEY (theme_id) REFERENCES theme (id) ON DELETE CASCADE;
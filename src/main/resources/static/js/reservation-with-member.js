@@ -3,26 +3,83 @@ const RESERVATION_API_ENDPOINT = '/admin/reservations';
 const TIME_API_ENDPOINT = '/times';
 const THEME_API_ENDPOINT = '/themes';
 const MEMBER_API_ENDPOINT = '/members';
+const PAGE_SIZE = 50;
+const TOTAL_COUNT_HEADER = 'X-Total-Count';
 const timesOptions = [];
 const themesOptions = [];
 const membersOptions = [];
+let searchQuery = '';
+let lastReservation = null;
+let hasNextPage = true;
+let isLoadingPage = false;
+let totalCount = null;
 
 document.addEventListener('DOMContentLoaded', () => {
     document.getElementById('add-button').addEventListener('click', addInputRow);
     document.getElementById('filter-form').addEventListener('submit', applyFilter);
+    document.getElementById('load-more-button').addEventListener('click', fetchNextPage);
+    observeLoadMore();
 
-    requestRead(RESERVATION_API_ENDPOINT)
-        .then(render)
-        .catch(error => console.error('Error fetching reservations:', error));
+    resetReservations('');
 
     fetchTimes();
     fetchThemes();
     fetchMembers();
 });
 
+function observeLoadMore() {
+    if (!('IntersectionObserver' in window)) return;
+
+    const observer = new IntersectionObserver(entries => {
+        if (entries.some(entry => entry.isIntersecting)) fetchNextPage();
+    });
+    observer.observe(document.getElementById('load-more-button'));
+}
+
+function resetReservations(query) {
+    searchQuery = query;
+    lastReservation = null;
+    hasNextPage = true;
+    totalCount = null;
+    document.getElementById('table-body').innerHTML = '';
+    fetchNextPage();
+}
+
+function fetchNextPage() {
+    if (isLoadingPage || !hasNextPage) return;
+    isLoadingPage = true;
+
+    let endpoint = `${RESERVATION_API_ENDPOINT}?limit=${PAGE_SIZE}${searchQuery}`;
+    if (lastReservation) {
+        endpoint += `&after-date=${lastReservation.date}&after-id=${lastReservation.id}`;
+    } else {
+        endpoint += '&include-total=true';
+    }
+
+    fetch(endpoint)
+        .then(response => {
+            if (response.status !== 200) throw new Error('Read failed');
+            if (response.headers.has(TOTAL_COUNT_HEADER)) totalCount = response.headers.get(TOTAL_COUNT_HEADER);
+            return response.json();
+        })
+        .then(data => {
+            render(data);
+            if (data.length > 0) lastReservation = data[data.length - 1];
+            hasNextPage = data.length === PAGE_SIZE;
+            updatePageStatus();
+        })
+        .catch(error => console.error('Error fetching reservations:', error))
+        .finally(() => isLoadingPage = false);
+}
+
+function updatePageStatus() {
+    const loadedCount = document.getElementById('table-body').rows.length;
+    document.getElementById('reservation-count').textContent = `${loadedCount} / ${totalCount}`;
+    document.getElementById('load-more-button').style.display = hasNextPage ? '' : 'none';
+}
+
 function render(data) {
     const tableBody = document.getElementById('table-body');
-    tableBody.innerHTML = '';
 
     data.forEach(item => {
         const row = tableBody.insertRow();
@@ -196,20 +253,7 @@ function applyFilter(event) {
     const dateFrom = document.getElementById('date-from').value;
     const dateTo = document.getElementById('date-to').value;
 
-    /*
-    TODO: [6단계] 예약 검색 - 조건에 따른 예약 조회 API 호출
-          요청 포맷에 맞게 설정
-    */
-    fetch(`/admin/reservations?member=${memberId}&theme=${themeId}&start-date=${dateFrom}&end-date=${dateTo}`, { // 예약 검색 API 호출
-        method: 'GET',
-        headers: {
-            'Content-Type': 'application/json'
-        },
-    }).then(response => {
-        if (response.status === 200) return response.json();
-        throw new Error('Read failed');
-    }).then(render)
-        .catch(error => console.error("Error fetching available times:", error));
+    resetReservations(`&member=${memberId}&theme=${themeId}&start-date=${dateFrom}&end-date=${dateTo}`);
 }
 
 function requestCreate(reservation) {
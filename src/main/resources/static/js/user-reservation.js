@@ -1,4 +1,7 @@
 const THEME_API_ENDPOINT = '/themes';
+const AVAILABILITY_API_ENDPOINT = '/times/availability';
+
+let availability = {times: [], themes: new Map(), fullyBookedDates: new Set()};
 
 document.addEventListener('DOMContentLoaded', () => {
     requestRead(THEME_API_ENDPOINT)
@@ -7,6 +10,13 @@ document.addEventListener('DOMContentLoaded', () => {
 
     flatpickr("#datepicker", {
         inline: true,
+        disable: [date => availability.fullyBookedDates.has(formatDate(date))],
+        onReady: function (selectedDates, dateStr, instance) {
+            loadMonthAvailability(instance);
+        },
+        onMonthChange: function (selectedDates, dateStr, instance) {
+            loadMonthAvailability(instance);
+        },
         onChange: function (selectedDates, dateStr, instance) {
             if (dateStr === '') return;
             checkDate();
@@ -81,7 +91,60 @@ function checkDateAndTheme() {
     }
 }
 
+function loadMonthAvailability(instance) {
+    const firstDate = new Date(instance.currentYear, instance.currentMonth, 1);
+    const lastDate = new Date(instance.currentYear, instance.currentMonth + 1, 0);
+
+    requestRead(`${AVAILABILITY_API_ENDPOINT}?startDate=${formatDate(firstDate)}&endDate=${formatDate(lastDate)}`)
+        .then(matrix => {
+            availability = toAvailability(matrix);
+            instance.redraw();
+        })
+        .catch(error => console.error('Error fetching availability:', error));
+}
+
+function toAvailability(matrix) {
+    const themes = new Map();
+    const bookedThemeCounts = new Map();
+    matrix.themes.forEach(theme => {
+        const dates = new Map();
+        theme.dates.forEach(date => {
+            dates.set(date.date, date);
+            if (date.fullyBooked) {
+                bookedThemeCounts.set(date.date, (bookedThemeCounts.get(date.date) || 0) + 1);
+            }
+        });
+        themes.set(String(theme.themeId), dates);
+    });
+
+    const fullyBookedDates = new Set();
+    bookedThemeCounts.forEach((count, date) => {
+        if (matrix.themes.length > 0 && count === matrix.themes.length) {
+            fullyBookedDates.add(date);
+        }
+    });
+    return {times: matrix.times, themes, fullyBookedDates};
+}
+
+function formatDate(date) {
+    const month = String(date.getMonth() + 1).padStart(2, '0');
+    const day = String(date.getDate()).padStart(2, '0');
+    return `${date.getFullYear()}-${month}-${day}`;
+}
+
 function fetchAvailableTimes(date, themeId) {
+    const dateAvailability = availability.themes.get(String(themeId))?.get(date);
+    if (dateAvailability) {
+        const bookedTimeIds = new Set(dateAvailability.bookedTimeIds);
+        renderAvailableTimes({
+            availableTimeResponses: availability.times.map(time => ({
+                timeResponseDto: time,
+                booked: bookedTimeIds.has(time.id)
+            }))
+        });
+        return;
+    }
+
     fetch(`/times/available?date=${date}&themeId=${themeId}`, { // 예약 가능 시간 조회 API endpoint
         method: 'GET',
         headers: {
@@ -0,0 +1,129 @@
+package roomescape.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import roomescape.controller.reactive.ReactiveReadServer;
+
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = {
+        "reactive-read.enabled=true",
+        "reactive-read.port=0",
+        "spring.datasource.url=jdbc:h2:mem:read-path-benchmark",
+        "rate-limit.available-time.capacity=1000000",
+        "rate-limit.available-time.per-minute=1000000"
+})
+class ReadPathLoadBenchmark {
+
+    private static final String[] PATHS = {
+            "/themes",
+            "/times",
+            "/times/available?date=2100-01-01&themeId=1",
+            "/themes/popular?start-date=2024-04-01&end-date=2024-05-01&count=10"
+    };
+    private static final int[] CONCURRENCY_LEVELS = {50, 200, 800, 2000};
+    private static final Duration SLO = Duration.ofMillis(100);
+
+    @LocalServerPort
+    private int servletPort;
+
+    @Autowired
+    private ReactiveReadServer reactiveReadServer;
+
+    @DisplayName("서블릿 스택과 리액티브 읽기 서버가 동시 요청 수별로 버티는 처리량과 지연 시간을 비교한다.")
+    @Test
+    void compare_read_paths() throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        List<String> results = new ArrayList<>();
+        for (int concurrency : CONCURRENCY_LEVELS) {
+            results.add(measure(client, "servlet", servletPort, concurrency));
+            results.add(measure(client, "reactive", reactiveReadServer.getPort(), concurrency));
+        }
+
+        String report = "[" + String.join(",", results) + "]";
+        Path output = Path.of("build", "benchmark", "read-path.json");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, report);
+        assertThat(results).hasSize(CONCURRENCY_LEVELS.length * 2);
+    }
+
+    private String measure(HttpClient client, String stack, int port, int concurrency) throws Exception {
+        int durationSeconds = 5;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicLong errors = new AtomicLong();
+        List<CompletableFuture<Void>> loops = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            HttpRequest request = HttpRequest.newBuilder(
+                            URI.create("http://localhost:" + port + PATHS[i % PATHS.length]))
+                    .timeout(Duration.ofSeconds(10))
+                    .GET()
+                    .build();
+            loops.add(loop(client, request, deadline, latencies, errors));
+        }
+        CompletableFuture.allOf(loops.toArray(CompletableFuture[]::new)).join();
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        long withinSlo = Arrays.stream(sorted).filter(latency -> latency <= SLO.toNanos()).count();
+        return String.format(Locale.ROOT,
+                "{\"stack\":\"%s\",\"concurrency\":%d,\"requests\":%d,\"errors\":%d,\"throughput\":%.1f,"
+                        + "\"p50Millis\":%.2f,\"p99Millis\":%.2f,\"withinSloRatio\":%.4f}",
+                stack, concurrency, sorted.length, errors.get(), (double) sorted.length / durationSeconds,
+                millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)),
+                sorted.length == 0 ? 0 : (double) withinSlo / sorted.length);
+    }
+
+    private CompletableFuture<Void> loop(HttpClient client, HttpRequest request, long deadline,
+                                         ConcurrentLinkedQueue<Long> latencies, AtomicLong errors) {
+        if (System.nanoTime() >= deadline) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long start = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    if (error == null && response.statusCode() == 200) {
+                        latencies.add(System.nanoTime() - start);
+                    } else {
+                        errors.incrementAndGet();
+                    }
+                    return null;
+                })
+                .thenCompose(ignored -> loop(client, request, deadline, latencies, errors));
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
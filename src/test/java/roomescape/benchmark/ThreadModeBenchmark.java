@@ -0,0 +1,143 @@
+package roomescape.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+class ThreadModeBenchmark {
+
+    private static final String ADMIN_LOGIN_BODY = "{\"email\":\"tt@tt.com\",\"password\":\"tt\"}";
+    private static final String SEARCH_PATH = "/admin/reservations?start-date=2024-01-01&end-date=2100-12-31&limit=50";
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${benchmark.concurrency:200}")
+    private int concurrency;
+
+    @Value("${benchmark.warmup-seconds:3}")
+    private int warmupSeconds;
+
+    @Value("${benchmark.duration-seconds:10}")
+    private int durationSeconds;
+
+    @DisplayName("현재 스레드 모드에서 어드민 예약 검색의 처리량과 지연 시간을 측정한다.")
+    @Test
+    void measure_admin_search_throughput() throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        String cookie = login(client);
+
+        run(client, cookie, warmupSeconds);
+        long[] latencies = run(client, cookie, durationSeconds);
+
+        String report = report(latencies);
+        Path output = Path.of("build", "benchmark", "thread-mode-" + mode() + ".json");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, report);
+        assertThat(latencies).isNotEmpty();
+    }
+
+    private String login(HttpClient client) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri("/members/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(ADMIN_LOGIN_BODY))
+                .build();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        return response.headers()
+                .firstValue("Set-Cookie")
+                .map(value -> value.split(";", 2)[0])
+                .orElseThrow();
+    }
+
+    private long[] run(HttpClient client, String cookie, int seconds) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(SEARCH_PATH))
+                .header("Cookie", cookie)
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        List<Future<List<Long>>> results = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            results.add(workers.submit(() -> {
+                List<Long> latencies = new ArrayList<>();
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 200) {
+                        latencies.add(System.nanoTime() - start);
+                    }
+                }
+                return latencies;
+            }));
+        }
+
+        List<Long> latencies = new ArrayList<>();
+        for (Future<List<Long>> result : results) {
+            latencies.addAll(result.get());
+        }
+        workers.shutdown();
+        return latencies.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private String report(long[] latencies) {
+        Arrays.sort(latencies);
+        return String.format(Locale.ROOT,
+                "{\"mode\":\"%s\",\"concurrency\":%d,\"durationSeconds\":%d,\"requests\":%d,"
+                        + "\"throughput\":%.1f,\"p50Millis\":%.2f,\"p99Millis\":%.2f,\"maxMillis\":%.2f}",
+                mode(), concurrency, durationSeconds, latencies.length,
+                (double) latencies.length / durationSeconds,
+                millis(percentile(latencies, 0.50)),
+                millis(percentile(latencies, 0.99)),
+                millis(latencies.length == 0 ? 0 : latencies[latencies.length - 1]));
+    }
+
+    private String mode() {
+        boolean running = virtualThreads && Runtime.version().feature() >= 21;
+        return running ? "virtual" : "platform";
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,103 @@
+package roomescape.controller.helper;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import roomescape.domain.member.Member;
+import roomescape.global.JwtManager;
+
+@AutoConfigureObservability
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = "spring.datasource.url=jdbc:h2:mem:actuator")
+class ActuatorAdminFilterTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtManager jwtManager;
+
+    private final Member member = new Member(1L, "t1@t1.com", "123", "러너덕", "MEMBER");
+    private final Member admin = new Member(2L, "t2@t2.com", "124", "재즈", "ADMIN");
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = port;
+    }
+
+    @DisplayName("로그인하지 않은 사용자가 메트릭을 요청하면 /login 페이지로 리다이렉트 시킨다.")
+    @Test
+    void redirect_login_page_when_not_login_member_get_metrics() {
+        RestAssured.given().log().all()
+                .redirects().follow(false)
+                .when().get("/admin/actuator/prometheus")
+                .then().log().all()
+                .statusCode(302)
+                .header("Location", "http://localhost:" + port + "/login");
+    }
+
+    @DisplayName("경로 파라미터나 인코딩된 문자를 섞어 메트릭을 요청해도 관리자 확인을 거친다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"/admin/actuator;x/prometheus", "/admin/%61ctuator/prometheus"})
+    void check_admin_when_metrics_path_is_not_normalized(String path) {
+        RestAssured.given().log().all()
+                .urlEncodingEnabled(false)
+                .redirects().follow(false)
+                .cookie("token", jwtManager.generateToken(member))
+                .when().get(path)
+                .then().log().all()
+                .statusCode(302)
+                .header("Location", "http://localhost:" + port + "/");
+    }
+
+    @DisplayName("어드민이 아닌 사용자가 메트릭을 요청하면 / 페이지로 리다이렉트 시킨다.")
+    @Test
+    void redirect_index_page_when_not_admin_get_metrics() {
+        RestAssured.given().log().all()
+                .redirects().follow(false)
+                .cookie("token", jwtManager.generateToken(member))
+                .when().get("/admin/actuator/prometheus")
+                .then().log().all()
+                .statusCode(302)
+                .header("Location", "http://localhost:" + port + "/");
+    }
+
+    @DisplayName("유효하지 않은 토큰으로 메트릭을 요청하면 401을 응답한다.")
+    @Test
+    void throw_unauthorized_when_token_is_invalid() {
+        RestAssured.given().log().all()
+                .cookie("token", "invalid")
+                .when().get("/admin/actuator/prometheus")
+                .then().log().all()
+                .statusCode(401)
+                .body("status", is(401))
+                .body("instance", is("/admin/actuator/prometheus"));
+    }
+
+    @DisplayName("어드민은 요청, 쿼리, 예약 충돌 메트릭을 조회할 수 있다.")
+    @Test
+    void find_metrics_when_admin() {
+        RestAssured.given().get("/themes/popular?start-date=2024-04-01&end-date=2024-05-01&count=10");
+        RestAssured.given().get("/times/available?date=2100-01-01&themeId=1");
+
+        RestAssured.given().log().all()
+                .cookie("token", jwtManager.generateToken(admin))
+                .when().get("/admin/actuator/prometheus")
+                .then()
+                .statusCode(200)
+                .body(containsString("http_server_requests_seconds"))
+                .body(containsString("repository_query_seconds"))
+                .body(containsString("roomescape_reservation_conflicts_total"))
+                .body(containsString("hikaricp_connections"));
+    }
+}
@@ -0,0 +1,102 @@
+package roomescape.controller.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import java.io.IOException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import roomescape.domain.member.Member;
+import roomescape.domain.member.Role;
+import roomescape.global.JwtManager;
+import roomescape.service.exception.UnauthorizedException;
+
+class AuthenticationFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JwtManager jwtManager = new JwtManager(
+            "011070243be2a70035923d1cf8b65cf39a32a4eb8ae053f31b0f157d0a45bfa8", 1800000, 100);
+    private final AuthenticationFilter authenticationFilter = new AuthenticationFilter(jwtManager, meterRegistry);
+
+    private RequestAuthentication filter(MockHttpServletRequest request) throws ServletException, IOException {
+        authenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return RequestAuthentication.from(request);
+    }
+
+    @DisplayName("토큰 쿠키가 없으면 익명 요청으로 표시하고, 회원 정보를 꺼내면 에러를 발생시킨다.")
+    @Test
+    void bind_anonymous_when_token_cookie_not_exists() throws ServletException, IOException {
+        RequestAuthentication authentication = filter(new MockHttpServletRequest());
+
+        assertAll(
+                () -> assertThat(authentication.isAnonymous()).isTrue(),
+                () -> assertThatThrownBy(authentication::getLoginMember)
+                        .isInstanceOf(UnauthorizedException.class)
+                        .hasMessage("권한이 없습니다. 로그인을 다시 시도해주세요.")
+        );
+    }
+
+    @DisplayName("유효한 토큰이면 요청에 로그인 회원 정보를 한 번만 저장한다.")
+    @Test
+    void bind_login_member_when_token_is_valid() throws ServletException, IOException {
+        Member admin = new Member(2L, "t2@t2.com", "124", "재즈", "ADMIN");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("token", jwtManager.generateToken(admin)));
+
+        LoginMember loginMember = filter(request).getLoginMember();
+
+        assertAll(
+                () -> assertThat(loginMember.getId()).isEqualTo(2L),
+                () -> assertThat(loginMember.getRole()).isEqualTo(Role.ADMIN)
+        );
+    }
+
+    @DisplayName("토큰 검증에 실패하면 회원 정보를 꺼낼 때 검증 에러를 발생시킨다.")
+    @Test
+    void throw_verification_failure_when_token_is_invalid() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("token", "invalid"));
+
+        RequestAuthentication authentication = filter(request);
+
+        assertAll(
+                () -> assertThat(authentication.isAnonymous()).isFalse(),
+                () -> assertThatThrownBy(authentication::getLoginMember)
+                        .isInstanceOf(JwtException.class),
+                () -> assertThat(meterRegistry.counter("roomescape.jwt.failures").count()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("정적 리소스와 인증을 읽지 않는 페이지 요청은 토큰을 검증하지 않는다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"/css/style.css", "/js/reservation-new.js", "/image/admin-logo.png", "/favicon.ico", "/", "/login"})
+    void skip_authentication_for_paths_without_login(String path) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setCookies(new Cookie("token", "invalid"));
+
+        RequestAuthentication authentication = filter(request);
+
+        assertThat(authentication.isAnonymous()).isTrue();
+    }
+
+    @DisplayName("관리자 페이지 요청은 토큰을 검증한다.")
+    @Test
+    void authenticate_admin_page_request() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/admin/reservation");
+        request.setCookies(new Cookie("token", "invalid"));
+
+        RequestAuthentication authentication = filter(request);
+
+        assertThat(authentication.isAnonymous()).isFalse();
+    }
+}
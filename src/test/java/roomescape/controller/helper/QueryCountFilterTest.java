@@ -0,0 +1,56 @@
+package roomescape.controller.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import java.io.IOException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import roomescape.global.QueryMonitoringDataSource;
+
+@ExtendWith(OutputCaptureExtension.class)
+class QueryCountFilterTest {
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(new QueryMonitoringDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:query-count-filter"), 200));
+    private final QueryCountFilter queryCountFilter = new QueryCountFilter(2, 1);
+
+    @DisplayName("요청에서 실행한 쿼리 수와 같은 쿼리 반복 횟수가 기준을 넘으면 경고 로그를 남긴다.")
+    @Test
+    void warn_when_request_exceeds_query_thresholds(CapturedOutput output) throws ServletException, IOException {
+        MockFilterChain filterChain = new MockFilterChain(new HttpServlet() {
+        }, (request, response, chain) -> {
+            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            jdbcTemplate.queryForObject("SELECT 2", Integer.class);
+            jdbcTemplate.queryForObject("SELECT 3", Integer.class);
+        });
+
+        queryCountFilter.doFilter(new MockHttpServletRequest("GET", "/reservations"),
+                new MockHttpServletResponse(), filterChain);
+
+        assertThat(output.getOut()).contains(
+                "GET /reservations 요청에서 쿼리를 3번 실행했습니다. (기준 2번)",
+                "GET /reservations 요청에서 같은 쿼리를 3번 실행했습니다: SELECT ?");
+    }
+
+    @DisplayName("기준 안에서 쿼리를 실행한 요청은 경고 로그를 남기지 않는다.")
+    @Test
+    void not_warn_when_request_within_query_thresholds(CapturedOutput output) throws ServletException, IOException {
+        MockFilterChain filterChain = new MockFilterChain(new HttpServlet() {
+        }, (request, response, chain) -> jdbcTemplate.queryForObject("SELECT 1", Integer.class));
+
+        queryCountFilter.doFilter(new MockHttpServletRequest("GET", "/times"),
+                new MockHttpServletResponse(), filterChain);
+
+        assertThat(output.getOut()).doesNotContain("GET /times 요청에서");
+    }
+}
@@ -0,0 +1,51 @@
+package roomescape.controller.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import roomescape.domain.member.Role;
+import roomescape.global.TokenBucketRateLimiter;
+
+class RateLimitInterceptorTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final RateLimitInterceptor interceptor = new RateLimitInterceptor(
+            new TokenBucketRateLimiter(1, 30, TimeUnit.MINUTES.toNanos(1), clock::get), new ObjectMapper());
+
+    @DisplayName("한도를 넘은 요청은 429와 Retry-After 헤더로 거절한다.")
+    @Test
+    void reject_with_retry_after_when_limit_exceeded() throws IOException {
+        MockHttpServletResponse allowedResponse = new MockHttpServletResponse();
+        MockHttpServletResponse rejectedResponse = new MockHttpServletResponse();
+
+        boolean allowed = interceptor.preHandle(new MockHttpServletRequest(), allowedResponse, null);
+        boolean rejected = interceptor.preHandle(new MockHttpServletRequest(), rejectedResponse, null);
+
+        assertAll(
+                () -> assertThat(allowed).isTrue(),
+                () -> assertThat(rejected).isFalse(),
+                () -> assertThat(rejectedResponse.getStatus()).isEqualTo(429),
+                () -> assertThat(rejectedResponse.getHeader("Retry-After")).isEqualTo("2")
+        );
+    }
+
+    @DisplayName("로그인한 회원은 IP가 같아도 회원별로 한도를 계산한다.")
+    @Test
+    void limit_by_member_id_when_authenticated() throws IOException {
+        interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null);
+        MockHttpServletRequest memberRequest = new MockHttpServletRequest();
+        RequestAuthentication.authenticated(new LoginMember(1L, "러너덕", Role.MEMBER)).bindTo(memberRequest);
+
+        boolean allowed = interceptor.preHandle(memberRequest, new MockHttpServletResponse(), null);
+
+        assertThat(allowed).isTrue();
+    }
+}
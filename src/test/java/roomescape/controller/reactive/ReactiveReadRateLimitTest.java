@@ -0,0 +1,44 @@
+package roomescape.controller.reactive;
+
+import static org.hamcrest.Matchers.is;
+
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {
+        "reactive-read.enabled=true",
+        "reactive-read.port=0",
+        "spring.datasource.url=jdbc:h2:mem:reactive-read-rate-limit",
+        "rate-limit.available-time.capacity=1",
+        "rate-limit.available-time.per-minute=1"
+})
+class ReactiveReadRateLimitTest {
+
+    @Autowired
+    private ReactiveReadServer reactiveReadServer;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = reactiveReadServer.getPort();
+    }
+
+    @DisplayName("리액티브 읽기 서버도 예약 가능 시간 조회에 같은 요청 제한을 적용한다.")
+    @Test
+    void limit_available_time_requests() {
+        RestAssured.given().log().all()
+                .when().get("/times/available?date=2100-01-01&themeId=1")
+                .then().log().all()
+                .statusCode(200);
+
+        RestAssured.given().log().all()
+                .when().get("/times/available?date=2100-01-01&themeId=1")
+                .then().log().all()
+                .statusCode(429)
+                .header("Retry-After", is("60"))
+                .body("detail", is("요청이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+    }
+}
@@ -0,0 +1,71 @@
+package roomescape.controller.reactive;
+
+import static org.hamcrest.Matchers.is;
+
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {
+        "reactive-read.enabled=true",
+        "reactive-read.port=0",
+        "spring.datasource.url=jdbc:h2:mem:reactive-read"
+})
+class ReactiveReadServerTest {
+
+    @Autowired
+    private ReactiveReadServer reactiveReadServer;
+
+    @BeforeEach
+    void setUp() {
+        RestAssured.port = reactiveReadServer.getPort();
+    }
+
+    @DisplayName("테마 목록을 ETag와 함께 응답하고, 같은 ETag로 다시 요청하면 304를 응답한다.")
+    @Test
+    void find_themes_with_etag() {
+        String eTag = RestAssured.given().log().all()
+                .when().get("/themes")
+                .then().log().all()
+                .statusCode(200)
+                .extract().header("ETag");
+
+        RestAssured.given().log().all()
+                .header("If-None-Match", eTag)
+                .when().get("/themes")
+                .then().log().all()
+                .statusCode(304);
+    }
+
+    @DisplayName("예약 가능 시간을 조회할 때 테마 아이디가 없으면 400을 응답한다.")
+    @Test
+    void throw_exception_when_available_time_request_has_no_theme_id() {
+        RestAssured.given().log().all()
+                .when().get("/times/available?date=2100-01-01")
+                .then().log().all()
+                .statusCode(400)
+                .body("detail", is("테마 아이디는 반드시 입력되어야 합니다."));
+    }
+
+    @DisplayName("인기 테마를 조회한다.")
+    @Test
+    void find_top_booked_themes() {
+        RestAssured.given().log().all()
+                .when().get("/themes/popular?start-date=2024-04-01&end-date=2024-05-01&count=10")
+                .then().log().all()
+                .statusCode(200);
+    }
+
+    @DisplayName("인기 테마를 20개보다 많이 조회하면 400을 응답한다.")
+    @Test
+    void throw_exception_when_popular_theme_count_exceeds_max() {
+        RestAssured.given().log().all()
+                .when().get("/themes/popular?start-date=2024-04-01&end-date=2024-05-01&count=21")
+                .then().log().all()
+                .statusCode(400)
+                .body("detail", is("불러올 테마 최대 개수는 20개까지 가능합니다."));
+    }
+}
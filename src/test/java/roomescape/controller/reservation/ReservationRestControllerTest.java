@@ -1,6 +1,7 @@
 package roomescape.controller.reservation;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.hamcrest.Matchers.nullValue;
 
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
@@ -127,6 +128,79 @@ class ReservationRestControllerTest {
                 .isEqualTo(List.of(expectedResponse));
     }
 
+    @DisplayName("예약 목록을 개수만큼 나누어 조회하면 전체 개수를 헤더로 반환한다.")
+    @Test
+    void return_total_count_header_when_find_reservations_with_limit() {
+        List.of("2100-08-05", "2100-08-06").forEach(date -> RestAssured.given().log().all()
+                .cookie("token", adminToken)
+                .contentType(ContentType.JSON)
+                .body(new AdminReservationRequest(1L, 1L, date, 1L))
+                .when().post("/admin/reservations")
+                .then().log().all()
+                .statusCode(201));
+
+        List<ReservationResponse> actualResponse = RestAssured.given().log().all()
+                .cookie("token", adminToken)
+                .queryParam("limit", 1)
+                .queryParam("include-total", true)
+                .when().get("/admin/reservations")
+                .then().log().all()
+                .statusCode(200)
+                .header("X-Total-Count", "2")
+                .extract()
+                .jsonPath()
+                .getList(".", ReservationResponse.class);
+
+        assertThat(actualResponse.size()).isEqualTo(1);
+    }
+
+    @DisplayName("개수와 커서 없이 예약 목록을 조회하면 전체 개수 없이 모든 예약을 반환한다.")
+    @Test
+    void return_all_reservations_without_total_count_when_find_reservations_without_limit() {
+        List.of("2100-08-05", "2100-08-06").forEach(date -> RestAssured.given().log().all()
+                .cookie("token", adminToken)
+                .contentType(ContentType.JSON)
+                .body(new AdminReservationRequest(1L, 1L, date, 1L))
+                .when().post("/admin/reservations")
+                .then().log().all()
+                .statusCode(201));
+
+        List<ReservationResponse> actualResponse = RestAssured.given().log().all()
+                .cookie("token", adminToken)
+                .when().get("/admin/reservations")
+                .then().log().all()
+                .statusCode(200)
+                .header("X-Total-Count", nullValue())
+                .extract()
+                .jsonPath()
+                .getList(".", ReservationResponse.class);
+
+        assertThat(actualResponse.size()).isEqualTo(2);
+    }
+
+    @DisplayName("예약 목록을 내보내면 한 줄에 하나의 예약을 JSON으로 반환한다.")
+    @Test
+    void return_ndjson_when_export_reservations() {
+        List.of("2100-08-05", "2100-08-06").forEach(date -> RestAssured.given().log().all()
+                .cookie("token", adminToken)
+                .contentType(ContentType.JSON)
+                .body(new AdminReservationRequest(1L, 1L, date, 1L))
+                .when().post("/admin/reservations")
+                .then().log().all()
+                .statusCode(201));
+
+        String body = RestAssured.given().log().all()
+                .cookie("token", adminToken)
+                .when().get("/admin/reservations/export")
+                .then().log().all()
+                .statusCode(200)
+                .contentType("application/x-ndjson")
+                .extract()
+                .asString();
+
+        assertThat(body.lines().count()).isEqualTo(2);
+    }
+
     @DisplayName("멤버가 예약을 생성하는데 성공하면 응답과 201 상태 코드를 반환한다.")
     @Test
     void return_201_when_create_reservation_member() {
@@ -22,8 +22,11 @@ import roomescape.service.dto.member.MemberCreateRequest;
 import roomescape.service.dto.reservation.ReservationTimeRequest;
 import roomescape.service.dto.reservation.ReservationTimeResponse;
 import roomescape.service.dto.theme.ThemeRequest;
+import roomescape.service.dto.time.AvailabilityMatrixResponse;
 import roomescape.service.dto.time.AvailableTimeResponse;
 import roomescape.service.dto.time.AvailableTimeResponses;
+import roomescape.service.dto.time.DateAvailabilityResponse;
+import roomescape.service.dto.time.ThemeAvailabilityResponse;
 
 @TestExecutionListeners(value = {
         DatabaseCleanupListener.class,
@@ -142,6 +145,36 @@ class ReservationTimeRestControllerTest {
                 .isEqualTo(expectedResponse);
     }
 
+    @DisplayName("테마와 날짜별 예약 현황을 한 번에 조회하는데 성공하면 응답과 200 상태 코드를 반환한다.")
+    @Test
+    void return_200_when_find_availability_matrix() {
+        create("/members/signup", memberCreate1);
+        create("/admin/themes", themeCreate1);
+        create("/admin/times", reservationTimeCreate1);
+        create("/admin/times", reservationTimeCreate2);
+        create("/admin/reservations", reservationCreate1);
+
+        AvailabilityMatrixResponse actualResponse = RestAssured.given().log().all()
+                .when().get("/times/availability?startDate=2100-01-01&endDate=2100-01-02")
+                .then().log().all()
+                .statusCode(200)
+                .extract()
+                .jsonPath()
+                .getObject(".", AvailabilityMatrixResponse.class);
+
+        AvailabilityMatrixResponse expectedResponse = new AvailabilityMatrixResponse(
+                List.of(new ReservationTimeResponse(1L, "10:00"), new ReservationTimeResponse(2L, "12:00")),
+                List.of(new ThemeAvailabilityResponse(1L, List.of(
+                        new DateAvailabilityResponse("2100-01-01", List.of(1L), false),
+                        new DateAvailabilityResponse("2100-01-02", List.of(), false)
+                )))
+        );
+
+        assertThat(actualResponse)
+                .usingRecursiveComparison()
+                .isEqualTo(expectedResponse);
+    }
+
     @DisplayName("예약 시간을 삭제하는데 성공하면 응답과 204 상태 코드를 반환한다.")
     @Test
     void return_204_when_delete_reservation_time() {
@@ -109,6 +109,32 @@ class ThemeRestControllerTest {
                 .isEqualTo(List.of(expectedResponse1, expectedResponse2));
     }
 
+    @DisplayName("테마 목록이 바뀌지 않았으면 같은 ETag 요청에 304 상태 코드를, 바뀌었으면 200 상태 코드를 반환한다.")
+    @Test
+    void return_304_when_themes_not_modified_since_etag() {
+        create("/admin/themes", themeCreate1);
+        String eTag = RestAssured.given().log().all()
+                .when().get("/themes")
+                .then().log().all()
+                .statusCode(200)
+                .extract()
+                .header("ETag");
+
+        RestAssured.given().log().all()
+                .header("If-None-Match", eTag)
+                .when().get("/themes")
+                .then().log().all()
+                .statusCode(304);
+
+        create("/admin/themes", themeCreate2);
+
+        RestAssured.given().log().all()
+                .header("If-None-Match", eTag)
+                .when().get("/themes")
+                .then().log().all()
+                .statusCode(200);
+    }
+
     @DisplayName("인기 테마를 조회하는데 성공하면 응답과 200 상태 코드를 반환한다.")
     @Test
     void return_200_when_find_top_booked_themes() {
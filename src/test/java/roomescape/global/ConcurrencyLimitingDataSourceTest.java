@@ -0,0 +1,42 @@
+package roomescape.global;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class ConcurrencyLimitingDataSourceTest {
+
+    private final ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:guard"), 1, 50);
+
+    @DisplayName("허용된 수만큼 커넥션을 사용 중이면 대기 시간이 지난 뒤 에러를 발생시킨다.")
+    @Test
+    void throw_exception_when_all_permits_are_used() throws SQLException {
+        try (Connection ignored = dataSource.getConnection()) {
+            assertThatThrownBy(dataSource::getConnection)
+                    .isInstanceOf(SQLTransientConnectionException.class);
+        }
+    }
+
+    @DisplayName("커넥션을 닫으면 한 번만 허가를 반납한다.")
+    @Test
+    void release_permit_once_when_connection_closed() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        int permitsInUse = dataSource.getAvailablePermits();
+
+        connection.close();
+        connection.close();
+
+        assertAll(
+                () -> assertThat(permitsInUse).isZero(),
+                () -> assertThat(dataSource.getAvailablePermits()).isEqualTo(1)
+        );
+    }
+}
@@ -21,6 +21,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.mock.web.MockHttpServletRequest;
+import roomescape.controller.helper.LoginMember;
 import roomescape.domain.member.Member;
 import roomescape.service.exception.UnauthorizedException;
 
@@ -138,4 +139,20 @@ class JwtManagerTest {
                 () -> assertThat(role).isEqualTo(member1.getRole().name())
         );
     }
+
+    @DisplayName("검증한 토큰은 만료 전까지 같은 로그인 회원 정보를 재사용한다.")
+    @Test
+    void reuse_login_member_of_verified_token() {
+        String token = jwtManager.generateToken(member1);
+
+        LoginMember first = jwtManager.resolveLoginMember(token);
+        LoginMember second = jwtManager.resolveLoginMember(token);
+
+        assertAll(
+                () -> assertThat(first.getId()).isEqualTo(member1.getId()),
+                () -> assertThat(first.getName()).isEqualTo(member1.getName()),
+                () -> assertThat(first.getRole()).isEqualTo(member1.getRole()),
+                () -> assertThat(second).isSameAs(first)
+        );
+    }
 }
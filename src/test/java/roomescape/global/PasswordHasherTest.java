@@ -0,0 +1,53 @@
+package roomescape.global;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PasswordHasherTest {
+
+    @DisplayName("해시한 비밀번호는 원래 비밀번호와만 일치한다.")
+    @Test
+    void matches_hashed_password() {
+        PasswordHasher passwordHasher = new PasswordHasher(1000);
+
+        String encoded = passwordHasher.hash("password");
+
+        assertAll(
+                () -> assertThat(encoded).startsWith("pbkdf2-sha512$1000$"),
+                () -> assertThat(passwordHasher.matches("password", encoded)).isTrue(),
+                () -> assertThat(passwordHasher.matches("wrong", encoded)).isFalse(),
+                () -> assertThat(passwordHasher.hash("password")).isNotEqualTo(encoded)
+        );
+    }
+
+    @DisplayName("평문이거나 반복 횟수가 다른 비밀번호는 다시 해시해야 한다.")
+    @Test
+    void needs_rehash_when_plain_or_cost_changed() {
+        PasswordHasher oldHasher = new PasswordHasher(1000);
+        PasswordHasher newHasher = new PasswordHasher(2000);
+        String encoded = oldHasher.hash("password");
+
+        assertAll(
+                () -> assertThat(newHasher.matches("password", "password")).isTrue(),
+                () -> assertThat(newHasher.needsRehash("password")).isTrue(),
+                () -> assertThat(newHasher.matches("password", encoded)).isTrue(),
+                () -> assertThat(newHasher.needsRehash(encoded)).isTrue(),
+                () -> assertThat(oldHasher.needsRehash(encoded)).isFalse()
+        );
+    }
+
+    @DisplayName("저장된 해시 형식이 잘못되었으면 일치하지 않는 것으로 본다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"pbkdf2-sha512$abc$c2FsdA$aGFzaA", "pbkdf2-sha512$0$c2FsdA$aGFzaA",
+            "pbkdf2-sha512$1000$!!$aGFzaA"})
+    void not_match_malformed_hash(String encodedPassword) {
+        PasswordHasher passwordHasher = new PasswordHasher(1000);
+
+        assertThat(passwordHasher.matches("password", encodedPassword)).isFalse();
+    }
+}
@@ -0,0 +1,56 @@
+package roomescape.global;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import roomescape.service.exception.PasswordHashingBusyException;
+
+class PasswordHashingExecutorTest {
+
+    @DisplayName("작업을 전용 스레드에서 실행하고 결과를 반환한다.")
+    @Test
+    void execute_task_on_hashing_thread() {
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 1, 1000);
+
+        String threadName = executor.execute(() -> Thread.currentThread().getName());
+
+        assertThat(threadName).startsWith("password-hashing-");
+        executor.destroy();
+    }
+
+    @DisplayName("스레드와 대기열이 모두 차 있으면 바로 거절한다.")
+    @Test
+    void reject_when_saturated() throws InterruptedException {
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 1, 5000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture.runAsync(() -> executor.execute(() -> {
+            started.countDown();
+            return await(release);
+        }));
+        started.await(1, TimeUnit.SECONDS);
+        CompletableFuture.runAsync(() -> executor.execute(() -> true));
+        while (executor.getQueueDepth() == 0) {
+            Thread.onSpinWait();
+        }
+
+        assertThatThrownBy(() -> executor.execute(() -> true))
+                .isInstanceOf(PasswordHashingBusyException.class);
+        release.countDown();
+        executor.destroy();
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
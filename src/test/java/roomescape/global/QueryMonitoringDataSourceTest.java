@@ -0,0 +1,72 @@
+package roomescape.global;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+@ExtendWith(OutputCaptureExtension.class)
+class QueryMonitoringDataSourceTest {
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(new QueryMonitoringDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:query-monitor"), 200));
+
+    @AfterEach
+    void tearDown() {
+        QueryCounter.end();
+    }
+
+    @DisplayName("요청 안에서 실행한 쿼리 수와 같은 형태로 반복된 쿼리를 센다.")
+    @Test
+    void count_statements_and_repeated_shapes() {
+        QueryCounter.begin();
+
+        jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+        jdbcTemplate.queryForObject("SELECT 2", Integer.class);
+        jdbcTemplate.queryForObject("SELECT CAST(? AS INT) + 1", Integer.class, 10);
+        QueryCounter counter = QueryCounter.end();
+
+        assertAll(
+                () -> assertThat(counter.getTotal()).isEqualTo(3),
+                () -> assertThat(counter.findRepeatedShapes(1)).isEqualTo(Map.of("SELECT ?", 2)),
+                () -> assertThat(counter.findRepeatedShapes(2)).isEmpty()
+        );
+    }
+
+    @DisplayName("요청 밖에서 실행한 쿼리는 세지 않는다.")
+    @Test
+    void not_count_statements_outside_request() {
+        jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+
+        assertThat(QueryCounter.end()).isNull();
+    }
+
+    @DisplayName("문자열과 숫자 리터럴, 공백을 정규화해 쿼리 형태를 만든다.")
+    @Test
+    void normalize_statement_shape() {
+        String shape = QueryCounter.shapeOf("SELECT *\n  FROM member WHERE id = 10 AND email = 'a''b@c.com'");
+
+        assertThat(shape).isEqualTo("SELECT * FROM member WHERE id = ? AND email = ?");
+    }
+
+    @DisplayName("느린 쿼리는 바인딩한 값 대신 파라미터 타입과 길이만 로그로 남긴다.")
+    @Test
+    void log_slow_statement_without_parameter_values(CapturedOutput output) {
+        JdbcTemplate slowJdbcTemplate = new JdbcTemplate(new QueryMonitoringDataSource(
+                new DriverManagerDataSource("jdbc:h2:mem:query-monitor"), 0));
+
+        slowJdbcTemplate.queryForObject("SELECT CAST(? AS VARCHAR)", String.class, "secret@t1.com");
+
+        assertThat(output.getOut())
+                .contains("느린 쿼리", "SELECT CAST(? AS VARCHAR)", "파라미터={1=String(13)}")
+                .doesNotContain("secret@t1.com");
+    }
+}
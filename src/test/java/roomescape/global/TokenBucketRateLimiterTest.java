@@ -0,0 +1,54 @@
+package roomescape.global;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+
+    @DisplayName("용량만큼 연속 요청을 허용하고, 이후에는 다음 토큰까지 남은 시간을 반환한다.")
+    @Test
+    void reject_after_capacity_is_used() {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(2, 60, 60 * SECOND, clock::get);
+
+        long first = rateLimiter.tryAcquire("ip:127.0.0.1");
+        long second = rateLimiter.tryAcquire("ip:127.0.0.1");
+        long rejected = rateLimiter.tryAcquire("ip:127.0.0.1");
+        long otherKey = rateLimiter.tryAcquire("member:1");
+        clock.addAndGet(SECOND);
+        long refilled = rateLimiter.tryAcquire("ip:127.0.0.1");
+
+        assertAll(
+                () -> assertThat(first).isZero(),
+                () -> assertThat(second).isZero(),
+                () -> assertThat(rejected).isEqualTo(SECOND),
+                () -> assertThat(otherKey).isZero(),
+                () -> assertThat(refilled).isZero()
+        );
+    }
+
+    @DisplayName("가득 찬 채로 방치된 버킷은 정리 주기마다 제거한다.")
+    @Test
+    void sweep_idle_buckets() {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(2, 60, 10 * SECOND, clock::get);
+        rateLimiter.tryAcquire("ip:127.0.0.1");
+        rateLimiter.tryAcquire("member:1");
+        int sizeBeforeSweep = rateLimiter.size();
+
+        clock.addAndGet(10 * SECOND);
+        rateLimiter.tryAcquire("member:2");
+
+        assertAll(
+                () -> assertThat(sizeBeforeSweep).isEqualTo(2),
+                () -> assertThat(rateLimiter.size()).isEqualTo(1)
+        );
+    }
+}
@@ -0,0 +1,59 @@
+package roomescape.global;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import roomescape.controller.helper.LoginMember;
+import roomescape.domain.member.Role;
+
+class VerifiedTokenCacheTest {
+
+    private final LoginMember loginMember = new LoginMember(1L, "러너덕", Role.MEMBER);
+
+    @DisplayName("만료 시각이 지난 토큰은 캐시에서 찾을 수 없다.")
+    @Test
+    void not_find_expired_token() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        cache.put("token", loginMember, 1000L);
+
+        assertAll(
+                () -> assertThat(cache.find("token", 999L)).contains(loginMember),
+                () -> assertThat(cache.find("token", 1000L)).isEmpty(),
+                () -> assertThat(cache.size()).isZero()
+        );
+    }
+
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 토큰부터 제거한다.")
+    @Test
+    void evict_least_recently_used_token() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        cache.put("token1", loginMember, Long.MAX_VALUE);
+        cache.put("token2", loginMember, Long.MAX_VALUE);
+        cache.find("token1", 0L);
+        cache.put("token3", loginMember, Long.MAX_VALUE);
+
+        assertAll(
+                () -> assertThat(cache.size()).isEqualTo(2),
+                () -> assertThat(cache.find("token1", 0L)).isPresent(),
+                () -> assertThat(cache.find("token2", 0L)).isEmpty(),
+                () -> assertThat(cache.find("token3", 0L)).isPresent()
+        );
+    }
+
+    @DisplayName("최대 크기를 넘으면 한 번에 여러 토큰을 제거해 다음 제거까지 여유를 둔다.")
+    @Test
+    void evict_tokens_in_batch() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        for (int i = 0; i <= 10; i++) {
+            cache.put("token" + i, loginMember, Long.MAX_VALUE);
+        }
+
+        assertAll(
+                () -> assertThat(cache.size()).isEqualTo(9),
+                () -> assertThat(cache.find("token0", 0L)).isEmpty(),
+                () -> assertThat(cache.find("token10", 0L)).isPresent()
+        );
+    }
+}
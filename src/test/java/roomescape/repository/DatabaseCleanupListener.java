@@ -4,6 +4,10 @@ import java.util.List;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.TestContext;
 import org.springframework.test.context.support.AbstractTestExecutionListener;
+import roomescape.service.CatalogCache;
+import roomescape.service.MemberEmailCache;
+import roomescape.service.ReservationOccupancyIndex;
+import roomescape.service.ThemePopularityCounter;
 
 public class DatabaseCleanupListener extends AbstractTestExecutionListener {
 
@@ -18,6 +22,18 @@ public class DatabaseCleanupListener extends AbstractTestExecutionListener {
         JdbcTemplate jdbcTemplate = getJdbcTemplateBean(testContext);
         List<String> queries = jdbcTemplate.queryForList(sql, String.class);
         execute(queries, jdbcTemplate);
+        testContext.getApplicationContext()
+                .getBeanProvider(ReservationOccupancyIndex.class)
+                .ifAvailable(ReservationOccupancyIndex::reload);
+        testContext.getApplicationContext()
+                .getBeanProvider(CatalogCache.class)
+                .ifAvailable(CatalogCache::invalidateAll);
+        testContext.getApplicationContext()
+                .getBeanProvider(ThemePopularityCounter.class)
+                .ifAvailable(ThemePopularityCounter::rebuild);
+        testContext.getApplicationContext()
+                .getBeanProvider(MemberEmailCache.class)
+                .ifAvailable(MemberEmailCache::clear);
     }
 
     private JdbcTemplate getJdbcTemplateBean(TestContext testContext) {
@@ -1,6 +1,7 @@
 package roomescape.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.util.List;
@@ -52,17 +53,14 @@ class JdbcMemberRepositoryTest {
     }
 
     @Test
-    @DisplayName("회원 존재 여부를 이메일로 판단한다.")
-    void is_Exist_member_by_email() {
-        Member member = memberRepository.insertMember(member1);
-
-        boolean exist = memberRepository.isMemberExistsByEmail(member.getEmail());
-        boolean notExist = memberRepository.isMemberExistsByEmail(member2.getEmail());
-
-        assertAll(
-                () -> assertThat(exist).isTrue(),
-                () -> assertThat(notExist).isFalse()
-        );
+    @DisplayName("이미 가입된 이메일로 회원을 저장하면 에러를 발생시킨다.")
+    void throw_exception_when_insert_duplicated_email() {
+        memberRepository.insertMember(member1);
+        Member duplicatedMember = new Member(null, member1.getEmail(), "999", "워니", "MEMBER");
+
+        assertThatThrownBy(() -> memberRepository.insertMember(duplicatedMember))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이미 가입되어 있는 이메일 주소입니다.");
     }
 
     @Test
@@ -1,11 +1,14 @@
 package roomescape.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
 import javax.sql.DataSource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,10 +19,11 @@ import org.springframework.test.context.TestExecutionListeners;
 import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
 import roomescape.domain.member.Member;
 import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationSummary;
 import roomescape.domain.reservation.ReservationTime;
 import roomescape.domain.reservation.Theme;
 import roomescape.repository.rowmapper.MemberRowMapper;
-import roomescape.repository.rowmapper.ReservationRowMapper;
+import roomescape.repository.rowmapper.ReservationSummaryRowMapper;
 import roomescape.repository.rowmapper.ReservationTimeRowMapper;
 import roomescape.repository.rowmapper.ThemeRowMapper;
 import roomescape.service.dto.reservation.ReservationSearchParams;
@@ -66,7 +70,7 @@ class JdbcReservationRepositoryTest {
     @BeforeEach
     void setUp() {
         memberRepository = new JdbcMemberRepository(dataSource, new MemberRowMapper());
-        reservationRepository = new JdbcReservationRepository(dataSource, new ReservationRowMapper());
+        reservationRepository = new JdbcReservationRepository(dataSource, new ReservationSummaryRowMapper());
         reservationTimeRepository = new JdbcReservationTimeRepository(dataSource, new ReservationTimeRowMapper());
         themeRepository = new JdbcThemeRepository(dataSource, new ThemeRowMapper());
         initializeTimesAndThemeAndMemberData();
@@ -88,14 +92,14 @@ class JdbcReservationRepositoryTest {
         reservationRepository.insertReservation(reservation2);
 
         ReservationSearchParams params1 = new ReservationSearchParams(null, null, null, null);
-        List<Reservation> reservations1 = reservationRepository.findReservationsWithParams(params1);
+        List<ReservationSummary> reservations1 = reservationRepository.findReservationsWithParams(params1);
 
         ReservationSearchParams params2 = new ReservationSearchParams(1L, null, null, null);
-        List<Reservation> reservations2 = reservationRepository.findReservationsWithParams(params2);
+        List<ReservationSummary> reservations2 = reservationRepository.findReservationsWithParams(params2);
 
         LocalDate from = LocalDate.of(2024, 04, 25);
         ReservationSearchParams params3 = new ReservationSearchParams(null, null, from, null);
-        List<Reservation> reservations3 = reservationRepository.findReservationsWithParams(params3);
+        List<ReservationSummary> reservations3 = reservationRepository.findReservationsWithParams(params3);
 
         assertAll(
                 () -> assertThat(reservations1.size()).isEqualTo(2),
@@ -105,19 +109,68 @@ class JdbcReservationRepositoryTest {
     }
 
     @Test
-    @DisplayName("예약을 저장한다.")
+    @DisplayName("마지막으로 조회한 예약 이후의 예약을 날짜, 아이디 순서로 개수만큼 가져온다.")
+    void find_reservations_after_cursor() {
+        reservationRepository.insertReservation(reservation2);
+        reservationRepository.insertReservation(reservation1);
+
+        ReservationSearchParams firstPage = new ReservationSearchParams(null, null, null, null, null, null, 1);
+        List<ReservationSummary> firstReservations = reservationRepository.findReservationsWithParams(firstPage);
+
+        ReservationSummary last = firstReservations.get(0);
+        ReservationSearchParams secondPage = new ReservationSearchParams(
+                null, null, null, null, last.getDate(), last.getId(), 1);
+        List<ReservationSummary> secondReservations = reservationRepository.findReservationsWithParams(secondPage);
+
+        assertAll(
+                () -> assertThat(firstReservations.size()).isEqualTo(1),
+                () -> assertThat(last.getDate()).isEqualTo("2023-09-08"),
+                () -> assertThat(secondReservations.size()).isEqualTo(1),
+                () -> assertThat(secondReservations.get(0).getDate()).isEqualTo("2024-04-22"),
+                () -> assertThat(reservationRepository.countReservationsWithParams(firstPage)).isEqualTo(2)
+        );
+    }
+
+    @Test
+    @DisplayName("내보낼 예약이 한 페이지보다 많으면 커서로 이어서 모든 예약을 순서대로 전달한다.")
+    void stream_reservations_across_pages() {
+        LocalDate firstDate = LocalDate.parse("2024-01-01");
+        List<Reservation> reservations = IntStream.range(0, 501)
+                .mapToObj(day -> new Reservation(null, reservation1.getMember(), reservation1.getTheme(),
+                        firstDate.plusDays(day), reservation1.getReservationTime()))
+                .toList();
+        reservationRepository.insertReservations(reservations);
+
+        List<LocalDate> streamedDates = new ArrayList<>();
+        reservationRepository.streamReservationsWithParams(new ReservationSearchParams(null, null, null, null),
+                reservation -> streamedDates.add(reservation.getDate()));
+
+        assertAll(
+                () -> assertThat(streamedDates).hasSize(501),
+                () -> assertThat(streamedDates).isSorted(),
+                () -> assertThat(streamedDates.get(500)).isEqualTo(firstDate.plusDays(500))
+        );
+    }
+
+    @Test
+    @DisplayName("예약을 저장하면 다시 조회하지 않고 저장한 값에 아이디만 채워 반환한다.")
     void save_reservation() {
-        Reservation reservation = reservationRepository.insertReservation(reservation2);
+        Reservation detailedReservation = new Reservation(
+                null,
+                new Member(1L, "t1@t1.com", "123", "러너덕", "MEMBER"),
+                new Theme(1L, "공포", "난이도 1", "hi.jpg"),
+                LocalDate.parse("2024-04-23"),
+                new ReservationTime(1L, startAt1)
+        );
+
+        Reservation reservation = reservationRepository.insertReservation(detailedReservation);
 
         assertAll(
-                () -> assertThat(reservation.getMemberName()).isEqualTo("재즈"),
-                () -> assertThat(reservation.getTheme().getId()).isEqualTo(2),
-                () -> assertThat(reservation.getTheme().getName()).isEqualTo("우테코"),
-                () -> assertThat(reservation.getTheme().getDescription()).isEqualTo("난이도 2"),
-                () -> assertThat(reservation.getTheme().getThumbnail()).isEqualTo("hi.jpg"),
-                () -> assertThat(reservation.getDate()).isEqualTo("2024-04-22"),
-                () -> assertThat(reservation.getTimeId()).isEqualTo(2),
-                () -> assertThat(reservation.getTimeStartAt()).isEqualTo("15:00")
+                () -> assertThat(reservation.getId()).isEqualTo(1),
+                () -> assertThat(reservation.getMemberName()).isEqualTo("러너덕"),
+                () -> assertThat(reservation.getTheme().getName()).isEqualTo("공포"),
+                () -> assertThat(reservation.getTimeStartAt()).isEqualTo(startAt1),
+                () -> assertThat(reservationRepository.isReservationExistsById(1L)).isTrue()
         );
     }
 
@@ -181,19 +234,19 @@ class JdbcReservationRepositoryTest {
     }
 
     @Test
-    @DisplayName("예약 테이블에 테마, 시간, 날짜가 동일한 예약이 존재하는지 판단한다.")
-    void is_reservation_exists_by_date_and_time_id_and_theme_id() {
+    @DisplayName("테마, 시간, 날짜가 동일한 예약을 저장하면 에러를 발생시킨다.")
+    void throw_exception_when_insert_reservation_with_same_date_and_time_id_and_theme_id() {
         Reservation inputReservation = new Reservation(
-                3L,
-                new Member(3L, "t3@t3.com", "12", "재즈덕", "MEMBER"),
+                null,
+                new Member(2L, "t2@t2.com", "12345", "재즈", "MEMBER"),
                 new Theme(1L, null, null, null),
                 LocalDate.parse("2023-09-08"),
                 new ReservationTime(1L, (LocalTime) null)
         );
         reservationRepository.insertReservation(reservation1);
 
-        boolean isExists = reservationRepository.isReservationExistsByDateAndTimeIdAndThemeId(inputReservation);
-
-        assertThat(isExists).isTrue();
+        assertThatThrownBy(() -> reservationRepository.insertReservation(inputReservation))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("해당 테마는 같은 시간에 이미 예약이 존재합니다.");
     }
 }
@@ -1,6 +1,7 @@
 package roomescape.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.time.LocalDate;
@@ -18,7 +19,7 @@ import roomescape.domain.reservation.Reservation;
 import roomescape.domain.reservation.ReservationTime;
 import roomescape.domain.reservation.Theme;
 import roomescape.repository.rowmapper.MemberRowMapper;
-import roomescape.repository.rowmapper.ReservationRowMapper;
+import roomescape.repository.rowmapper.ReservationSummaryRowMapper;
 import roomescape.repository.rowmapper.ReservationTimeRowMapper;
 import roomescape.repository.rowmapper.ThemeRowMapper;
 
@@ -55,16 +56,16 @@ class JdbcReservationTimeRepositoryTest {
     void setUp() {
         reservationTimeRepository = new JdbcReservationTimeRepository(dataSource, new ReservationTimeRowMapper());
         themeRepository = new JdbcThemeRepository(dataSource, new ThemeRowMapper());
-        reservationRepository = new JdbcReservationRepository(dataSource, new ReservationRowMapper());
+        reservationRepository = new JdbcReservationRepository(dataSource, new ReservationSummaryRowMapper());
         memberRepository = new JdbcMemberRepository(dataSource, new MemberRowMapper());
     }
 
     @DisplayName("저장된 모든 예약 시간 정보를 가져온다.")
     @Test
     void find_all_reservation_times() {
-        ReservationTime savedTime1 = reservationTimeRepository.insertReservationTime(time1).get();
-        ReservationTime savedTime2 = reservationTimeRepository.insertReservationTime(time2).get();
-        ReservationTime savedTime3 = reservationTimeRepository.insertReservationTime(time3).get();
+        ReservationTime savedTime1 = reservationTimeRepository.insertReservationTime(time1);
+        ReservationTime savedTime2 = reservationTimeRepository.insertReservationTime(time2);
+        ReservationTime savedTime3 = reservationTimeRepository.insertReservationTime(time3);
 
         List<ReservationTime> allReservationTimes = reservationTimeRepository.findAllReservationTimes();
 
@@ -79,7 +80,7 @@ class JdbcReservationTimeRepositoryTest {
     @DisplayName("예약 시간을 저장한다.")
     @Test
     void save_reservation_time() {
-        ReservationTime savedTime = reservationTimeRepository.insertReservationTime(time1).get();
+        ReservationTime savedTime = reservationTimeRepository.insertReservationTime(time1);
 
         assertAll(
                 () -> assertThat(savedTime.getId()).isEqualTo(1),
@@ -103,23 +104,19 @@ class JdbcReservationTimeRepositoryTest {
     }
 
     @Test
-    @DisplayName("시간 존재 여부를 시작 시간으로 판단한다.")
-    void is_time_exists_by_start_time() {
-        ReservationTime savedTime1 = reservationTimeRepository.insertReservationTime(time1).get();
-
-        boolean existTime = reservationTimeRepository.isTimeExistsByStartTime(savedTime1.getStartAt().toString());
-        boolean notExistTime = reservationTimeRepository.isTimeExistsByStartTime("15:00");
+    @DisplayName("이미 저장된 시작 시간을 저장하면 에러를 발생시킨다.")
+    void throw_exception_when_insert_duplicated_start_time() {
+        reservationTimeRepository.insertReservationTime(time1);
 
-        assertAll(
-                () -> assertThat(existTime).isTrue(),
-                () -> assertThat(notExistTime).isFalse()
-        );
+        assertThatThrownBy(() -> reservationTimeRepository.insertReservationTime(new ReservationTime(null, startAt1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("중복된 시간을 입력할 수 없습니다.");
     }
 
     @Test
     @DisplayName("시간 존재 여부를 id로 판단한다.")
     void is_time_exists_by_time_id() {
-        ReservationTime savedTime1 = reservationTimeRepository.insertReservationTime(time1).get();
+        ReservationTime savedTime1 = reservationTimeRepository.insertReservationTime(time1);
 
         boolean existId = reservationTimeRepository.isTimeExistsByTimeId(savedTime1.getId());
         boolean notExistId = reservationTimeRepository.isTimeExistsByTimeId(2L);
@@ -133,7 +130,7 @@ class JdbcReservationTimeRepositoryTest {
     @Test
     @DisplayName("id로 시간을 조회한다.")
     void find_reservation_time_by_id() {
-        ReservationTime savedTime1 = reservationTimeRepository.insertReservationTime(time1).get();
+        ReservationTime savedTime1 = reservationTimeRepository.insertReservationTime(time1);
 
         ReservationTime findTime1 = reservationTimeRepository.findReservationTimeById(savedTime1.getId()).get();
 
@@ -146,9 +143,9 @@ class JdbcReservationTimeRepositoryTest {
     @Test
     @DisplayName("날짜와 테마를 입력받아 해당 날짜, 테마에 예약된 시간을 모두 조회한다.")
     void find_reservation_time_by_theme_and_date() {
-        ReservationTime savedTime1 = reservationTimeRepository.insertReservationTime(time1).get();
-        ReservationTime savedTime2 = reservationTimeRepository.insertReservationTime(time2).get();
-        ReservationTime savedTime3 = reservationTimeRepository.insertReservationTime(time3).get();
+        ReservationTime savedTime1 = reservationTimeRepository.insertReservationTime(time1);
+        ReservationTime savedTime2 = reservationTimeRepository.insertReservationTime(time2);
+        ReservationTime savedTime3 = reservationTimeRepository.insertReservationTime(time3);
         Theme savedTheme1 = themeRepository.insertTheme(theme1);
         Theme savedTheme2 = themeRepository.insertTheme(theme2);
         Member savedMember1 = memberRepository.insertMember(member1);
@@ -165,7 +162,7 @@ class JdbcReservationTimeRepositoryTest {
         reservationRepository.insertReservation(reservation2);
         reservationRepository.insertReservation(reservation3);
 
-        List<ReservationTime> bookedTimes = reservationTimeRepository.findReservedTimeByThemeAndDate("2024-05-01",
+        List<ReservationTime> bookedTimes = reservationTimeRepository.findReservedTimeByThemeAndDate(LocalDate.parse("2024-05-01"),
                 savedTheme1.getId());
 
         assertAll(
@@ -18,7 +18,7 @@ import roomescape.domain.reservation.Reservation;
 import roomescape.domain.reservation.ReservationTime;
 import roomescape.domain.reservation.Theme;
 import roomescape.repository.rowmapper.MemberRowMapper;
-import roomescape.repository.rowmapper.ReservationRowMapper;
+import roomescape.repository.rowmapper.ReservationSummaryRowMapper;
 import roomescape.repository.rowmapper.ReservationTimeRowMapper;
 import roomescape.repository.rowmapper.ThemeRowMapper;
 
@@ -35,6 +35,7 @@ class JdbcThemeRepositoryTest {
     private JdbcReservationRepository reservationRepository;
     private JdbcReservationTimeRepository timeRepository;
     private JdbcMemberRepository memberRepository;
+    private JdbcThemeStatsRepository themeStatsRepository;
 
     private final Theme theme1 = new Theme(null, "공포", "난이도 1", "hi.jpg");
     private final Theme theme2 = new Theme(null, "우테코", "난이도 2", "hi.jpg");
@@ -49,8 +50,9 @@ class JdbcThemeRepositoryTest {
     void setUp() {
         themeRepository = new JdbcThemeRepository(dataSource, new ThemeRowMapper());
         timeRepository = new JdbcReservationTimeRepository(dataSource, new ReservationTimeRowMapper());
-        reservationRepository = new JdbcReservationRepository(dataSource, new ReservationRowMapper());
+        reservationRepository = new JdbcReservationRepository(dataSource, new ReservationSummaryRowMapper());
         memberRepository = new JdbcMemberRepository(dataSource, new MemberRowMapper());
+        themeStatsRepository = new JdbcThemeStatsRepository(dataSource);
     }
 
     @DisplayName("저장된 모든 테마 정보를 가져온다.")
@@ -111,7 +113,7 @@ class JdbcThemeRepositoryTest {
     void find_top_themes_desc_by_reservation_count_between_dates() {
         Theme savedTheme1 = themeRepository.insertTheme(theme1);
         Theme savedTheme2 = themeRepository.insertTheme(theme2);
-        ReservationTime savedTime1 = timeRepository.insertReservationTime(time1).get();
+        ReservationTime savedTime1 = timeRepository.insertReservationTime(time1);
         Member savedMember1 = memberRepository.insertMember(member1);
         Member savedMember2 = memberRepository.insertMember(member2);
         Member savedMember3 = memberRepository.insertMember(member3);
@@ -125,10 +127,11 @@ class JdbcThemeRepositoryTest {
         reservationRepository.insertReservation(reservation1);
         reservationRepository.insertReservation(reservation2);
         reservationRepository.insertReservation(reservation3);
+        themeStatsRepository.rebuildThemeDailyStats();
 
         List<Theme> themes = themeRepository.findTopThemesDescendingByReservationCount(
-                "2024-05-01",
-                "2024-05-05",
+                LocalDate.parse("2024-05-01"),
+                LocalDate.parse("2024-05-05"),
                 2
         );
 
@@ -139,4 +142,21 @@ class JdbcThemeRepositoryTest {
                 () -> assertThat(themes.get(1).getName()).isEqualTo("공포")
         );
     }
+
+    @Test
+    @DisplayName("예약 수가 같은 테마는 아이디가 작은 테마를 먼저 가져온다.")
+    void find_top_themes_ordered_by_id_when_reservation_counts_are_equal() {
+        themeRepository.insertTheme(theme1);
+        themeRepository.insertTheme(theme2);
+        themeStatsRepository.increaseBookedCount(2L, LocalDate.parse("2024-05-01"), 1);
+        themeStatsRepository.increaseBookedCount(1L, LocalDate.parse("2024-05-02"), 1);
+
+        List<Theme> themes = themeRepository.findTopThemesDescendingByReservationCount(
+                LocalDate.parse("2024-05-01"),
+                LocalDate.parse("2024-05-05"),
+                2
+        );
+
+        assertThat(themes).extracting(Theme::getId).containsExactly(1L, 2L);
+    }
 }
@@ -0,0 +1,89 @@
+package roomescape.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDate;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+import roomescape.domain.member.Member;
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationTime;
+import roomescape.domain.reservation.Theme;
+import roomescape.repository.rowmapper.MemberRowMapper;
+import roomescape.repository.rowmapper.ReservationSummaryRowMapper;
+import roomescape.repository.rowmapper.ReservationTimeRowMapper;
+import roomescape.repository.rowmapper.ThemeRowMapper;
+
+@TestExecutionListeners(value = {
+        DatabaseCleanupListener.class,
+        DependencyInjectionTestExecutionListener.class
+})
+@JdbcTest
+class JdbcThemeStatsRepositoryTest {
+
+    @Autowired
+    DataSource dataSource;
+    private JdbcThemeStatsRepository themeStatsRepository;
+    private JdbcThemeRepository themeRepository;
+    private JdbcReservationRepository reservationRepository;
+    private JdbcReservationTimeRepository timeRepository;
+    private JdbcMemberRepository memberRepository;
+
+    private final Theme theme = new Theme(null, "공포", "난이도 1", "hi.jpg");
+    private final ReservationTime time1 = new ReservationTime(null, "10:30");
+    private final ReservationTime time2 = new ReservationTime(null, "12:30");
+    private final Member member = new Member(null, "t1@t1.com", "123", "러너덕", "MEMBER");
+    private final LocalDate date = LocalDate.parse("2024-05-01");
+
+    @BeforeEach
+    void setUp() {
+        themeStatsRepository = new JdbcThemeStatsRepository(dataSource);
+        themeRepository = new JdbcThemeRepository(dataSource, new ThemeRowMapper());
+        timeRepository = new JdbcReservationTimeRepository(dataSource, new ReservationTimeRowMapper());
+        reservationRepository = new JdbcReservationRepository(dataSource, new ReservationSummaryRowMapper());
+        memberRepository = new JdbcMemberRepository(dataSource, new MemberRowMapper());
+    }
+
+    @Test
+    @DisplayName("테마의 일별 예약 수를 늘리고 줄인다.")
+    void increase_and_decrease_booked_count() {
+        Theme savedTheme = themeRepository.insertTheme(theme);
+
+        themeStatsRepository.increaseBookedCount(savedTheme.getId(), date, 1);
+        themeStatsRepository.increaseBookedCount(savedTheme.getId(), date, 2);
+        int increasedCount = themeStatsRepository.findBookedCount(savedTheme.getId(), date);
+        themeStatsRepository.decreaseBookedCount(savedTheme.getId(), date);
+        int decreasedCount = themeStatsRepository.findBookedCount(savedTheme.getId(), date);
+
+        assertAll(
+                () -> assertThat(increasedCount).isEqualTo(3),
+                () -> assertThat(decreasedCount).isEqualTo(2)
+        );
+    }
+
+    @Test
+    @DisplayName("저장된 예약으로부터 테마의 일별 예약 수를 다시 집계한다.")
+    void rebuild_theme_daily_stats_from_reservations() {
+        Theme savedTheme = themeRepository.insertTheme(theme);
+        ReservationTime savedTime1 = timeRepository.insertReservationTime(time1);
+        ReservationTime savedTime2 = timeRepository.insertReservationTime(time2);
+        Member savedMember = memberRepository.insertMember(member);
+        reservationRepository.insertReservation(new Reservation(null, savedMember, savedTheme, date, savedTime1));
+        reservationRepository.insertReservation(new Reservation(null, savedMember, savedTheme, date, savedTime2));
+        themeStatsRepository.increaseBookedCount(savedTheme.getId(), date, 5);
+
+        int rebuiltRows = themeStatsRepository.rebuildThemeDailyStats();
+
+        assertAll(
+                () -> assertThat(rebuiltRows).isEqualTo(1),
+                () -> assertThat(themeStatsRepository.findBookedCount(savedTheme.getId(), date)).isEqualTo(2)
+        );
+    }
+}
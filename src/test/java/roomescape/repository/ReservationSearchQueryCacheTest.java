@@ -0,0 +1,57 @@
+package roomescape.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import roomescape.service.dto.reservation.ReservationSearchParams;
+
+class ReservationSearchQueryCacheTest {
+
+    private final ReservationSearchQueryCache queryCache =
+            new ReservationSearchQueryCache("SELECT * FROM reservation AS r WHERE 1=1 ");
+
+    @DisplayName("같은 검색 조건 조합은 처음 만든 쿼리를 재사용한다.")
+    @Test
+    void reuse_query_for_same_shape() {
+        String first = queryCache.pageQuery(new ReservationSearchParams(1L, null, null, null));
+        String second = queryCache.pageQuery(new ReservationSearchParams(2L, null, null, null));
+
+        assertAll(
+                () -> assertThat(second).isSameAs(first),
+                () -> assertThat(queryCache.getMissCount()).isEqualTo(1),
+                () -> assertThat(queryCache.getHitCount()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("검색 조건 조합이 다르면 조건에 맞는 쿼리를 새로 만든다.")
+    @Test
+    void build_query_for_each_shape() {
+        String memberQuery = queryCache.pageQuery(new ReservationSearchParams(1L, null, null, null));
+        String dateQuery = queryCache.pageQuery(
+                new ReservationSearchParams(null, null, LocalDate.parse("2024-05-01"), null));
+
+        assertAll(
+                () -> assertThat(memberQuery).contains("r.member_id = :memberId").doesNotContain(":dateFrom"),
+                () -> assertThat(dateQuery).contains("r.date >= :dateFrom").doesNotContain(":memberId"),
+                () -> assertThat(queryCache.getMissCount()).isEqualTo(2)
+        );
+    }
+
+    @DisplayName("개수를 지정하지 않고 커서도 없으면 LIMIT 없이 모든 예약을 조회하는 쿼리를 만든다.")
+    @Test
+    void build_query_without_limit_when_limit_and_cursor_are_absent() {
+        String unboundedQuery = queryCache.pageQuery(new ReservationSearchParams(null, null, null, null));
+        String pagedQuery = queryCache.pageQuery(new ReservationSearchParams(null, null, null, null, null, null, 10));
+        String cursorQuery = queryCache.pageQuery(new ReservationSearchParams(
+                null, null, null, null, LocalDate.parse("2024-05-01"), 1L, null));
+
+        assertAll(
+                () -> assertThat(unboundedQuery).doesNotContain("LIMIT"),
+                () -> assertThat(pagedQuery).contains("LIMIT :limit"),
+                () -> assertThat(cursorQuery).contains("LIMIT :limit")
+        );
+    }
+}
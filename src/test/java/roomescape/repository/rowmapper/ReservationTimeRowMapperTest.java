@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.sql.SQLException;
+import java.sql.Time;
 import java.sql.Types;
 import org.h2.tools.SimpleResultSet;
 import org.junit.jupiter.api.DisplayName;
@@ -17,8 +18,8 @@ class ReservationTimeRowMapperTest {
     void return_reservation_by_map_row() throws SQLException {
         SimpleResultSet resultSet = new SimpleResultSet();
         resultSet.addColumn("id", Types.BIGINT, 10, 0);
-        resultSet.addColumn("start_at", Types.VARCHAR, 255, 0);
-        resultSet.addRow(1, "20:00");
+        resultSet.addColumn("start_at", Types.TIME, 8, 0);
+        resultSet.addRow(1, Time.valueOf("20:00:00"));
         resultSet.next();
 
         ReservationTimeRowMapper rowMapper = new ReservationTimeRowMapper();
@@ -0,0 +1,92 @@
+package roomescape.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import roomescape.domain.member.Member;
+
+class MemberEmailCacheTest {
+
+    private final Member member = new Member(1L, "t1@t1.com", "123", "러너덕", "MEMBER");
+
+    @DisplayName("대소문자와 공백이 달라도 같은 이메일로 보고 캐시된 회원을 반환한다.")
+    @Test
+    void find_cached_member_by_normalized_email() {
+        MemberEmailCache cache = new MemberEmailCache(10, 60_000, 60_000);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        Optional<Member> first = cache.findMember("t1@t1.com", email -> {
+            loadCount.incrementAndGet();
+            return Optional.of(member);
+        });
+        Optional<Member> second = cache.findMember(" T1@T1.COM ", email -> {
+            loadCount.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertAll(
+                () -> assertThat(first).contains(member),
+                () -> assertThat(second).contains(member),
+                () -> assertThat(loadCount.get()).isEqualTo(1),
+                () -> assertThat(cache.getHitRatio()).isEqualTo(0.5)
+        );
+    }
+
+    @DisplayName("존재하지 않는 이메일도 캐시하고, 무효화하면 다시 조회한다.")
+    @Test
+    void reload_negative_entry_after_invalidate() {
+        MemberEmailCache cache = new MemberEmailCache(10, 60_000, 60_000);
+
+        Optional<Member> missing = cache.findMember("t1@t1.com", email -> Optional.empty());
+        Optional<Member> cachedMissing = cache.findMember("t1@t1.com", email -> Optional.of(member));
+        cache.invalidate("t1@t1.com");
+        Optional<Member> reloaded = cache.findMember("t1@t1.com", email -> Optional.of(member));
+
+        assertAll(
+                () -> assertThat(missing).isEmpty(),
+                () -> assertThat(cachedMissing).isEmpty(),
+                () -> assertThat(reloaded).contains(member)
+        );
+    }
+
+    @DisplayName("조회하는 동안 무효화되면 조회 결과를 캐시하지 않는다.")
+    @Test
+    void not_cache_member_loaded_before_invalidate() {
+        MemberEmailCache cache = new MemberEmailCache(10, 60_000, 60_000);
+
+        Optional<Member> missing = cache.findMember("t1@t1.com", email -> {
+            cache.invalidate(email);
+            return Optional.empty();
+        });
+        Optional<Member> reloaded = cache.findMember("t1@t1.com", email -> Optional.of(member));
+
+        assertAll(
+                () -> assertThat(missing).isEmpty(),
+                () -> assertThat(reloaded).contains(member)
+        );
+    }
+
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 이메일부터 제거한다.")
+    @Test
+    void evict_least_recently_used_email() {
+        MemberEmailCache cache = new MemberEmailCache(2, 60_000, 60_000);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        cache.findMember("t1@t1.com", email -> Optional.empty());
+        cache.findMember("t2@t2.com", email -> Optional.empty());
+        cache.findMember("t3@t3.com", email -> Optional.empty());
+        cache.findMember("t1@t1.com", email -> {
+            loadCount.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertAll(
+                () -> assertThat(cache.size()).isEqualTo(2),
+                () -> assertThat(loadCount.get()).isEqualTo(1)
+        );
+    }
+}
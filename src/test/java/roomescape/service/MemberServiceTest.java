@@ -3,6 +3,7 @@ package roomescape.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 import io.restassured.RestAssured;
 import org.junit.jupiter.api.BeforeEach;
@@ -105,4 +106,44 @@ class MemberServiceTest {
 
         assertThat(actualToken).isEqualTo(expectedToken);
     }
+
+    @DisplayName("존재하지 않던 이메일로 가입하면 대소문자와 관계없이 바로 로그인할 수 있다.")
+    @Test
+    void login_after_signup_with_previously_missing_email() {
+        MemberLoginRequest missingRequest = new MemberLoginRequest("t4@t4.com", "1212");
+        assertThatThrownBy(() -> memberService.login(missingRequest))
+                .isInstanceOf(UnauthorizedEmailException.class);
+
+        memberService.signup(new MemberCreateRequest("T4@t4.com", "1212", "워니"));
+
+        assertThat(memberService.login(missingRequest)).isNotBlank();
+    }
+
+    @DisplayName("평문으로 저장된 비밀번호는 로그인에 성공하면 해시로 다시 저장한다.")
+    @Test
+    void rehash_plain_password_on_login() {
+        Member savedMember = memberRepository.insertMember(member3);
+
+        memberService.login(new MemberLoginRequest("t3@t3.com", "125"));
+        String storedPassword = memberRepository.findMemberById(savedMember.getId())
+                .orElseThrow()
+                .getPassword();
+
+        assertAll(
+                () -> assertThat(storedPassword).startsWith("pbkdf2-sha512$"),
+                () -> assertThat(memberService.login(new MemberLoginRequest("t3@t3.com", "125"))).isNotBlank()
+        );
+    }
+
+    @DisplayName("대소문자가 섞여 저장된 기존 이메일도 소문자 이메일로 로그인할 수 있다.")
+    @Test
+    void login_with_mixed_case_stored_email() {
+        memberRepository.insertMember(new Member(null, "T3@T3.com", "125", "재즈덕", "MEMBER"));
+
+        assertAll(
+                () -> assertThat(memberService.login(new MemberLoginRequest("t3@t3.com", "125"))).isNotBlank(),
+                () -> assertThat(memberRepository.findMemberByEmail("t3@t3.com").orElseThrow().getEmail())
+                        .isEqualTo("T3@T3.com")
+        );
+    }
 }
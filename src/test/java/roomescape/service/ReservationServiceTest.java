@@ -1,11 +1,14 @@
 package roomescape.service;
 
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 import io.restassured.RestAssured;
 import java.time.LocalDate;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,7 +27,11 @@ import roomescape.repository.JdbcMemberRepository;
 import roomescape.repository.JdbcReservationRepository;
 import roomescape.repository.JdbcReservationTimeRepository;
 import roomescape.repository.JdbcThemeRepository;
+import roomescape.repository.JdbcThemeStatsRepository;
+import roomescape.service.dto.reservation.ReservationBatchResponse;
+import roomescape.service.dto.reservation.ReservationBatchStatus;
 import roomescape.service.dto.reservation.ReservationCreate;
+import roomescape.service.dto.reservation.ReservationResponse;
 
 @TestExecutionListeners(value = {
         DatabaseCleanupListener.class,
@@ -56,6 +63,9 @@ class ReservationServiceTest {
     @Autowired
     private JdbcMemberRepository memberRepository;
 
+    @Autowired
+    private JdbcThemeStatsRepository themeStatsRepository;
+
     private final Member member = new Member(1L, "t1@t1.com", "123", "러너덕", "MEMBER");
     private final ReservationTime time = new ReservationTime(1L, "11:00");
     private final Theme theme = new Theme(1L, "공포", "공포는 무서워", "hi.jpg");
@@ -117,6 +127,122 @@ class ReservationServiceTest {
                 .isThrownBy(() -> reservationService.createReservation(reservationDto));
     }
 
+    @DisplayName("예약을 생성하면 조회한 시간, 테마, 회원 이름으로 응답을 만든다.")
+    @Test
+    void create_reservation_response_from_known_values() {
+        reservationTimeRepository.insertReservationTime(time);
+        themeRepository.insertTheme(theme);
+        memberRepository.insertMember(member);
+
+        ReservationResponse response = reservationService.createReservation(
+                new ReservationCreate(1L, 1L, "2100-11-30", 1L));
+
+        assertAll(
+                () -> assertThat(response.getId()).isEqualTo(1L),
+                () -> assertThat(response.getMember().getName()).isEqualTo("러너덕"),
+                () -> assertThat(response.getTheme().getName()).isEqualTo("공포"),
+                () -> assertThat(response.getTheme().getDescription()).isEqualTo("공포는 무서워"),
+                () -> assertThat(response.getTheme().getThumbnail()).isEqualTo("hi.jpg"),
+                () -> assertThat(response.getDate()).isEqualTo("2100-11-30"),
+                () -> assertThat(response.getTime().getStartAt()).isEqualTo("11:00")
+        );
+    }
+
+    @DisplayName("저장되어있지 않은 테마나 회원으로 예약을 시도하면 에러를 발생시킨다.")
+    @Test
+    void throw_exception_when_create_reservation_use_unsaved_theme_or_member() {
+        reservationTimeRepository.insertReservationTime(time);
+        themeRepository.insertTheme(theme);
+        memberRepository.insertMember(member);
+
+        assertAll(
+                () -> assertThatThrownBy(() -> reservationService.createReservation(
+                        new ReservationCreate(1L, 2L, "2100-11-30", 1L)))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("예약하려는 테마를 찾을 수 없습니다."),
+                () -> assertThatThrownBy(() -> reservationService.createReservation(
+                        new ReservationCreate(2L, 1L, "2100-11-30", 1L)))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("예약하려는 회원을 찾을 수 없습니다.")
+        );
+    }
+
+    @DisplayName("예약 생성과 삭제 시 테마의 일별 예약 수를 함께 갱신한다.")
+    @Test
+    void update_theme_daily_stats_when_create_and_delete_reservation() {
+        reservationTimeRepository.insertReservationTime(time);
+        themeRepository.insertTheme(theme);
+        memberRepository.insertMember(member);
+        LocalDate statsDate = LocalDate.parse("2100-11-30");
+
+        ReservationResponse response = reservationService.createReservation(
+                new ReservationCreate(1L, 1L, "2100-11-30", 1L));
+        int countAfterCreate = themeStatsRepository.findBookedCount(1L, statsDate);
+        reservationService.deleteReservation(response.getId());
+        int countAfterDelete = themeStatsRepository.findBookedCount(1L, statsDate);
+
+        assertAll(
+                () -> assertThat(countAfterCreate).isEqualTo(1),
+                () -> assertThat(countAfterDelete).isZero()
+        );
+    }
+
+    @DisplayName("예약을 일괄 생성하면 항목마다 생성, 충돌, 검증 실패 결과를 반환한다.")
+    @Test
+    void create_reservations_with_result_per_item() {
+        memberRepository.insertMember(member);
+        reservationTimeRepository.insertReservationTime(time);
+        themeRepository.insertTheme(theme);
+        reservationRepository.insertReservation(
+                new Reservation(null, member, theme, LocalDate.parse("2100-11-30"), time));
+
+        List<ReservationCreate> reservationDtos = List.of(
+                new ReservationCreate(1L, 1L, "2100-12-01", 1L),
+                new ReservationCreate(1L, 1L, "2100-12-01", 1L),
+                new ReservationCreate(1L, 1L, "2100-11-30", 1L),
+                new ReservationCreate(1L, 1L, "2024-05-07", 1L),
+                new ReservationCreate(1L, 1L, "2100-12-02", 2L)
+        );
+
+        List<ReservationBatchResponse> responses = reservationService.createReservations(reservationDtos);
+
+        assertThat(responses).extracting(ReservationBatchResponse::getStatus).containsExactly(
+                ReservationBatchStatus.CREATED,
+                ReservationBatchStatus.CONFLICT,
+                ReservationBatchStatus.CONFLICT,
+                ReservationBatchStatus.INVALID,
+                ReservationBatchStatus.INVALID
+        );
+    }
+
+    @DisplayName("예약을 일괄 생성할 때 없는 테마나 회원이 포함된 항목만 검증 실패로 처리한다.")
+    @Test
+    void create_reservations_with_unknown_theme_or_member() {
+        memberRepository.insertMember(member);
+        reservationTimeRepository.insertReservationTime(time);
+        themeRepository.insertTheme(theme);
+
+        List<ReservationCreate> reservationDtos = List.of(
+                new ReservationCreate(1L, 1L, "2100-12-01", 1L),
+                new ReservationCreate(1L, 99L, "2100-12-02", 1L),
+                new ReservationCreate(99L, 1L, "2100-12-03", 1L)
+        );
+
+        List<ReservationBatchResponse> responses = reservationService.createReservations(reservationDtos);
+
+        assertAll(
+                () -> assertThat(responses).extracting(ReservationBatchResponse::getStatus).containsExactly(
+                        ReservationBatchStatus.CREATED,
+                        ReservationBatchStatus.INVALID,
+                        ReservationBatchStatus.INVALID
+                ),
+                () -> assertThat(responses).extracting(ReservationBatchResponse::getMessage).containsExactly(
+                        null,
+                        "예약하려는 테마를 찾을 수 없습니다.",
+                        "예약하려는 회원을 찾을 수 없습니다."
+                )
+        );
+    }
 
     @DisplayName("예약 삭제 시 저장되어있지 않은 아이디면 에러를 발생시킨다.")
     @Test
@@ -1,10 +1,13 @@
 package roomescape.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 import io.restassured.RestAssured;
 import java.time.LocalDate;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,12 +21,20 @@ import roomescape.domain.member.Member;
 import roomescape.domain.reservation.Reservation;
 import roomescape.domain.reservation.ReservationTime;
 import roomescape.domain.reservation.Theme;
+import roomescape.global.QueryCounter;
 import roomescape.repository.DatabaseCleanupListener;
 import roomescape.repository.JdbcMemberRepository;
 import roomescape.repository.JdbcReservationRepository;
 import roomescape.repository.JdbcReservationTimeRepository;
 import roomescape.repository.JdbcThemeRepository;
+import roomescape.service.dto.reservation.ReservationCreate;
+import roomescape.service.dto.reservation.ReservationResponse;
 import roomescape.service.dto.reservation.ReservationTimeRequest;
+import roomescape.service.dto.time.AvailabilityMatrixRequest;
+import roomescape.service.dto.time.AvailabilityMatrixResponse;
+import roomescape.service.dto.time.AvailableTimeRequest;
+import roomescape.service.dto.time.AvailableTimeResponse;
+import roomescape.service.dto.time.AvailableTimeResponses;
 
 @TestExecutionListeners(value = {
         DatabaseCleanupListener.class,
@@ -55,6 +66,12 @@ class ReservationTimeServiceTest {
     @Autowired
     private JdbcMemberRepository memberRepository;
 
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private CatalogCache catalogCache;
+
     @DisplayName("중복된 예약 시간을 생성하면 에러를 발생시킨다.")
     @Test
     void throw_exception_when_create_duplicated_reservation_time() {
@@ -104,4 +121,105 @@ class ReservationTimeServiceTest {
         assertThatNoException()
                 .isThrownBy(() -> reservationTimeService.deleteReservationTime(1L));
     }
+
+    @DisplayName("예약 생성과 삭제가 예약 가능 시간 조회에 바로 반영된다.")
+    @Test
+    void reflect_created_and_deleted_reservation_to_available_times() {
+        memberRepository.insertMember(new Member(1L, "t1@t1.com", "123", "러너덕", "MEMBER"));
+        themeRepository.insertTheme(new Theme(1L, "공포", "공포는 무서워", "hi.jpg"));
+        reservationTimeService.createReservationTime(new ReservationTimeRequest("10:00"));
+        reservationTimeService.createReservationTime(new ReservationTimeRequest("12:00"));
+        AvailableTimeRequest request = new AvailableTimeRequest("2100-11-30", 1L);
+
+        ReservationResponse reservation = reservationService.createReservation(
+                new ReservationCreate(1L, 1L, "2100-11-30", 2L));
+        List<Boolean> bookedAfterCreate = bookedFlags(reservationTimeService.findAvailableReservationTimes(request));
+        reservationService.deleteReservation(reservation.getId());
+        List<Boolean> bookedAfterDelete = bookedFlags(reservationTimeService.findAvailableReservationTimes(request));
+
+        assertAll(
+                () -> assertThat(bookedAfterCreate).containsExactly(false, true),
+                () -> assertThat(bookedAfterDelete).containsExactly(false, false)
+        );
+    }
+
+    @DisplayName("지나간 날짜의 예약 가능 시간은 메모리 색인 대신 저장된 예약으로 조회한다.")
+    @Test
+    void find_available_times_of_past_date_from_saved_reservations() {
+        Member member = new Member(1L, "t1@t1.com", "123", "러너덕", "MEMBER");
+        Theme theme = new Theme(1L, "공포", "공포는 무서워", "hi.jpg");
+        memberRepository.insertMember(member);
+        themeRepository.insertTheme(theme);
+        reservationTimeService.createReservationTime(new ReservationTimeRequest("10:00"));
+        reservationTimeService.createReservationTime(new ReservationTimeRequest("12:00"));
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        reservationRepository.insertReservation(
+                new Reservation(null, member, theme, yesterday, new ReservationTime(1L, "10:00")));
+
+        List<Boolean> bookedFlags = bookedFlags(reservationTimeService.findAvailableReservationTimes(
+                new AvailableTimeRequest(yesterday.toString(), 1L)));
+
+        assertThat(bookedFlags).containsExactly(true, false);
+    }
+
+    @DisplayName("지나간 날짜가 포함된 예약 가능 현황은 테마와 날짜 수와 관계없이 한 번의 쿼리로 조회한다.")
+    @Test
+    void find_past_availability_matrix_with_single_query() {
+        Member member = new Member(1L, "t1@t1.com", "123", "러너덕", "MEMBER");
+        Theme theme = new Theme(1L, "공포", "공포는 무서워", "hi.jpg");
+        memberRepository.insertMember(member);
+        themeRepository.insertTheme(theme);
+        themeRepository.insertTheme(new Theme(2L, "추리", "추리는 재밌어", "hi.jpg"));
+        reservationTimeService.createReservationTime(new ReservationTimeRequest("10:00"));
+        reservationTimeService.createReservationTime(new ReservationTimeRequest("12:00"));
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        reservationRepository.insertReservation(
+                new Reservation(null, member, theme, yesterday, new ReservationTime(1L, "10:00")));
+        AvailabilityMatrixRequest request = new AvailabilityMatrixRequest(
+                yesterday.minusDays(5).toString(), yesterday.plusDays(3).toString(), List.of(1L, 2L));
+        catalogCache.findAllThemes();
+
+        QueryCounter.begin();
+        AvailabilityMatrixResponse matrix;
+        int queryCount;
+        try {
+            matrix = reservationTimeService.findAvailabilityMatrix(request);
+        } finally {
+            queryCount = QueryCounter.end().getTotal();
+        }
+
+        assertAll(
+                () -> assertThat(queryCount).isEqualTo(1),
+                () -> assertThat(matrix.getThemes().get(0).getDates().get(5).getBookedTimeIds()).containsExactly(1L),
+                () -> assertThat(matrix.getThemes().get(1).getDates().get(5).getBookedTimeIds()).isEmpty()
+        );
+    }
+
+    @DisplayName("존재하지 않는 테마의 예약 가능 현황을 조회하면 에러를 발생시킨다.")
+    @Test
+    void throw_exception_when_find_availability_matrix_of_not_saved_theme() {
+        themeRepository.insertTheme(new Theme(1L, "공포", "공포는 무서워", "hi.jpg"));
+        AvailabilityMatrixRequest request = new AvailabilityMatrixRequest("2100-01-01", "2100-01-07", List.of(1L, 2L));
+
+        assertThatThrownBy(() -> reservationTimeService.findAvailabilityMatrix(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 테마입니다.");
+    }
+
+    @DisplayName("예약 가능 현황을 31일보다 긴 기간으로 조회하면 에러를 발생시킨다.")
+    @Test
+    void throw_exception_when_find_availability_matrix_over_max_days() {
+        AvailabilityMatrixRequest request = new AvailabilityMatrixRequest("2100-01-01", "2100-02-01", null);
+
+        assertThatThrownBy(() -> reservationTimeService.findAvailabilityMatrix(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("예약 가능 현황은 최대 31일까지 조회할 수 있습니다.");
+    }
+
+    private List<Boolean> bookedFlags(AvailableTimeResponses responses) {
+        return responses.getAvailableTimeResponses()
+                .stream()
+                .map(AvailableTimeResponse::isBooked)
+                .toList();
+    }
 }
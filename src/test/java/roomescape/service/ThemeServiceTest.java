@@ -1,10 +1,13 @@
 package roomescape.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.restassured.RestAssured;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +17,7 @@ import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.test.context.TestExecutionListeners;
 import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+import org.springframework.transaction.support.TransactionTemplate;
 import roomescape.domain.member.Member;
 import roomescape.domain.reservation.Reservation;
 import roomescape.domain.reservation.ReservationTime;
@@ -23,6 +27,9 @@ import roomescape.repository.JdbcMemberRepository;
 import roomescape.repository.JdbcReservationRepository;
 import roomescape.repository.JdbcReservationTimeRepository;
 import roomescape.repository.JdbcThemeRepository;
+import roomescape.service.dto.reservation.ReservationCreate;
+import roomescape.service.dto.theme.PopularThemeRequest;
+import roomescape.service.dto.theme.ThemeResponse;
 
 @TestExecutionListeners(value = {
         DatabaseCleanupListener.class,
@@ -54,6 +61,15 @@ class ThemeServiceTest {
     @Autowired
     private JdbcMemberRepository memberRepository;
 
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ThemePopularityCounter popularityCounter;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @DisplayName("테마 삭제 시 저장되어있지 않은 아이디면 에러를 발생시킨다.")
     @Test
     void throw_exception_when_delete_not_saved_theme_id() {
@@ -90,4 +106,49 @@ class ThemeServiceTest {
         assertThatNoException()
                 .isThrownBy(() -> themeService.deleteTheme(1L));
     }
+
+    @DisplayName("최근 기간의 인기 테마는 메모리의 예약 수 집계로 많이 예약된 순서대로 가져온다.")
+    @Test
+    void find_top_booked_themes_from_rolling_window() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        memberRepository.insertMember(new Member(1L, "t1@t1.com", "123", "러너덕", "MEMBER"));
+        themeRepository.insertTheme(new Theme(1L, "공포", "공포는 무서워", "hi.jpg"));
+        themeRepository.insertTheme(new Theme(2L, "추리", "추리는 재밌어", "hi.jpg"));
+        reservationTimeRepository.insertReservationTime(new ReservationTime(1L, "10:00"));
+        reservationTimeRepository.insertReservationTime(new ReservationTime(2L, "12:00"));
+        reservationService.createReservation(new ReservationCreate(1L, 1L, tomorrow.toString(), 1L));
+        reservationService.createReservation(new ReservationCreate(1L, 2L, tomorrow.toString(), 1L));
+        reservationService.createReservation(new ReservationCreate(1L, 2L, tomorrow.toString(), 2L));
+
+        List<ThemeResponse> themes = themeService.findTopBookedThemes(new PopularThemeRequest(
+                LocalDate.now().toString(), tomorrow.plusDays(1).toString(), 2));
+
+        assertThat(themes).extracting(ThemeResponse::getId).containsExactly(2L, 1L);
+    }
+
+    @DisplayName("집계를 다시 만드는 동안 커밋된 예약도 한 번만 센다.")
+    @Test
+    void count_reservation_committed_during_rebuild_once() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        memberRepository.insertMember(new Member(1L, "t1@t1.com", "123", "러너덕", "MEMBER"));
+        themeRepository.insertTheme(new Theme(1L, "공포", "공포는 무서워", "hi.jpg"));
+        themeRepository.insertTheme(new Theme(2L, "추리", "추리는 재밌어", "hi.jpg"));
+        reservationTimeRepository.insertReservationTime(new ReservationTime(1L, "10:00"));
+        reservationTimeRepository.insertReservationTime(new ReservationTime(2L, "12:00"));
+        reservationTimeRepository.insertReservationTime(new ReservationTime(3L, "14:00"));
+        reservationService.createReservation(new ReservationCreate(1L, 2L, tomorrow.toString(), 1L));
+        reservationService.createReservation(new ReservationCreate(1L, 2L, tomorrow.toString(), 2L));
+        reservationService.createReservation(new ReservationCreate(1L, 2L, tomorrow.toString(), 3L));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            reservationService.createReservation(new ReservationCreate(1L, 1L, tomorrow.toString(), 1L));
+            reservationService.createReservation(new ReservationCreate(1L, 1L, tomorrow.toString(), 2L));
+            CompletableFuture.runAsync(popularityCounter::rebuild).join();
+        });
+
+        List<ThemeResponse> themes = themeService.findTopBookedThemes(new PopularThemeRequest(
+                LocalDate.now().toString(), tomorrow.plusDays(1).toString(), 2));
+
+        assertThat(themes).extracting(ThemeResponse::getId).containsExactly(2L, 1L);
+    }
 }
@@ -0,0 +1,35 @@
+package roomescape.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VersionedJsonCacheTest {
+
+    @DisplayName("버전이 바뀌기 전까지는 직렬화한 결과를 재사용하고, 무효화되면 다시 읽어 새 ETag를 발급한다.")
+    @Test
+    void reuse_snapshot_until_invalidated() {
+        AtomicInteger loadCount = new AtomicInteger();
+        VersionedJsonCache<List<String>> cache = new VersionedJsonCache<>("names", "test", new ObjectMapper(),
+                () -> List.of("name" + loadCount.incrementAndGet()));
+
+        JsonSnapshot first = cache.get();
+        JsonSnapshot cached = cache.get();
+        cache.invalidate();
+        JsonSnapshot reloaded = cache.get();
+
+        assertAll(
+                () -> assertThat(cached).isSameAs(first),
+                () -> assertThat(new String(first.getBody(), StandardCharsets.UTF_8)).isEqualTo("[\"name1\"]"),
+                () -> assertThat(new String(reloaded.getBody(), StandardCharsets.UTF_8)).isEqualTo("[\"name2\"]"),
+                () -> assertThat(reloaded.getETag()).isNotEqualTo(first.getETag()),
+                () -> assertThat(loadCount.get()).isEqualTo(2)
+        );
+    }
+}